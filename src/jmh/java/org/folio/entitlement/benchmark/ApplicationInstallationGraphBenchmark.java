@@ -0,0 +1,42 @@
+package org.folio.entitlement.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.folio.common.domain.model.ApplicationDescriptor;
+import org.folio.entitlement.service.ApplicationInstallationGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApplicationInstallationGraphBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  public int applicationsCount;
+
+  private List<ApplicationDescriptor> applicationDescriptors;
+
+  @Setup
+  public void setUp() {
+    applicationDescriptors = SyntheticDescriptors.applicationDescriptors(applicationsCount);
+  }
+
+  @Benchmark
+  public List<Set<String>> getInstallationSequence() {
+    return new ApplicationInstallationGraph(applicationDescriptors).getInstallationSequence();
+  }
+}
@@ -0,0 +1,46 @@
+package org.folio.entitlement.benchmark;
+
+import static org.folio.entitlement.domain.dto.EntitlementType.ENTITLE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.entitlement.service.ModuleInstallationGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModuleInstallationGraphBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  public int modulesCount;
+
+  @Param({"false", "true"})
+  public boolean cyclic;
+
+  private List<ModuleDescriptor> moduleDescriptors;
+
+  @Setup
+  public void setUp() {
+    moduleDescriptors = SyntheticDescriptors.moduleDescriptors(modulesCount, cyclic);
+  }
+
+  @Benchmark
+  public List<List<String>> getInstallationSequence() {
+    return new ModuleInstallationGraph(moduleDescriptors, ENTITLE).getInstallationSequence();
+  }
+}
@@ -0,0 +1,67 @@
+package org.folio.entitlement.benchmark;
+
+import static org.folio.entitlement.domain.dto.EntitlementType.ENTITLE;
+import static org.folio.entitlement.domain.model.ApplicationStageContext.PARAM_APPLICATION_DESCRIPTOR;
+import static org.folio.entitlement.domain.model.ApplicationStageContext.PARAM_APPLICATION_ENTITLEMENT_TYPE;
+import static org.folio.entitlement.integration.kafka.model.ModuleType.MODULE;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties;
+import org.folio.entitlement.domain.model.ApplicationStageContext;
+import org.folio.entitlement.domain.model.ModulesSequence;
+import org.folio.entitlement.service.ModuleInstallationSequenceCache;
+import org.folio.entitlement.service.ModuleSequenceProvider;
+import org.folio.flow.api.StageContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModuleSequenceProviderBenchmark {
+
+  @Param({"10", "100", "500", "2000"})
+  public int modulesCount;
+
+  @Param({"false", "true"})
+  public boolean cyclic;
+
+  @Param({"false", "true"})
+  public boolean sequenceCacheEnabled;
+
+  private ModuleSequenceProvider moduleSequenceProvider;
+  private ApplicationStageContext stageContext;
+
+  @Setup
+  public void setUp() {
+    var configuration = new FlowEngineConfigurationProperties();
+    configuration.getSequenceCache().setEnabled(sequenceCacheEnabled);
+    var sequenceCache = new ModuleInstallationSequenceCache(configuration, new SimpleMeterRegistry());
+    moduleSequenceProvider = new ModuleSequenceProvider(sequenceCache);
+
+    var flowParameters = Map.of(
+      PARAM_APPLICATION_ENTITLEMENT_TYPE, ENTITLE,
+      PARAM_APPLICATION_DESCRIPTOR, SyntheticDescriptors.applicationDescriptor(modulesCount, cyclic));
+    stageContext = ApplicationStageContext.decorate(StageContext.of(UUID.randomUUID(), flowParameters, Map.of()));
+  }
+
+  @Benchmark
+  public ModulesSequence getSequence() {
+    return moduleSequenceProvider.getSequence(stageContext, MODULE);
+  }
+}
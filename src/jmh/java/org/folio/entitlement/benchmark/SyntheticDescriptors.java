@@ -0,0 +1,125 @@
+package org.folio.entitlement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.experimental.UtilityClass;
+import org.folio.common.domain.model.ApplicationDescriptor;
+import org.folio.common.domain.model.Dependency;
+import org.folio.common.domain.model.InterfaceDescriptor;
+import org.folio.common.domain.model.InterfaceReference;
+import org.folio.common.domain.model.Module;
+import org.folio.common.domain.model.ModuleDescriptor;
+
+/**
+ * Generates synthetic, but deterministic, descriptors for benchmarks.
+ */
+@UtilityClass
+public class SyntheticDescriptors {
+
+  private static final long SEED = 42L;
+  private static final int MAX_REQUIRED_INTERFACES = 4;
+  private static final int CYCLE_STEP = 25;
+  private static final int CYCLE_SIZE = 3;
+
+  /**
+   * Creates module descriptors where each module requires up to 4 interfaces of the previously created modules.
+   *
+   * <p>
+   * If {@code cyclic} is true, each 25th module starts a cluster of 3 modules with circular dependency between them.
+   * </p>
+   *
+   * @param modulesCount - number of modules to generate
+   * @param cyclic - defines if clusters with circular dependencies must be created
+   * @return list with module descriptors
+   */
+  public static List<ModuleDescriptor> moduleDescriptors(int modulesCount, boolean cyclic) {
+    var random = new Random(SEED);
+    var result = new ArrayList<ModuleDescriptor>(modulesCount);
+    for (var i = 0; i < modulesCount; i++) {
+      var requires = new ArrayList<InterfaceReference>();
+      var requiredCount = i == 0 ? 0 : random.nextInt(Math.min(i, MAX_REQUIRED_INTERFACES) + 1);
+      for (var j = 0; j < requiredCount; j++) {
+        requires.add(InterfaceReference.of(interfaceName(random.nextInt(i)), "1.0"));
+      }
+
+      result.add(new ModuleDescriptor()
+        .id(moduleId(i))
+        .provides(List.of(new InterfaceDescriptor(interfaceName(i), "1.1")))
+        .requires(requires));
+    }
+
+    if (cyclic) {
+      addCircularDependencies(result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Creates application descriptor with the given number of backend modules.
+   *
+   * @param modulesCount - number of modules to generate
+   * @param cyclic - defines if clusters with circular dependencies must be created
+   * @return {@link ApplicationDescriptor} object
+   */
+  public static ApplicationDescriptor applicationDescriptor(int modulesCount, boolean cyclic) {
+    var moduleDescriptors = moduleDescriptors(modulesCount, cyclic);
+    var modules = new ArrayList<Module>(modulesCount);
+    for (var i = 0; i < modulesCount; i++) {
+      modules.add(new Module("mod-" + i, "1.0.0").id(moduleId(i)));
+    }
+
+    return new ApplicationDescriptor()
+      .id("app-benchmark-1.0.0")
+      .name("app-benchmark")
+      .version("1.0.0")
+      .modules(modules)
+      .moduleDescriptors(moduleDescriptors);
+  }
+
+  /**
+   * Creates application descriptors where each application depends on up to 2 previously created applications.
+   *
+   * @param applicationsCount - number of applications to generate
+   * @return list with application descriptors
+   */
+  public static List<ApplicationDescriptor> applicationDescriptors(int applicationsCount) {
+    var random = new Random(SEED);
+    var result = new ArrayList<ApplicationDescriptor>(applicationsCount);
+    for (var i = 0; i < applicationsCount; i++) {
+      var dependencies = new ArrayList<Dependency>();
+      var dependenciesCount = i == 0 ? 0 : random.nextInt(Math.min(i, 2) + 1);
+      for (var j = 0; j < dependenciesCount; j++) {
+        dependencies.add(Dependency.of("app-" + random.nextInt(i), "1.0.0", false));
+      }
+
+      result.add(new ApplicationDescriptor()
+        .id("app-" + i + "-1.0.0")
+        .name("app-" + i)
+        .version("1.0.0")
+        .dependencies(dependencies));
+    }
+
+    return result;
+  }
+
+  private static void addCircularDependencies(List<ModuleDescriptor> descriptors) {
+    for (var start = 0; start + CYCLE_SIZE <= descriptors.size(); start += CYCLE_STEP) {
+      for (var i = 0; i < CYCLE_SIZE; i++) {
+        var nextIdx = start + (i + 1) % CYCLE_SIZE;
+        var requires = new ArrayList<>(descriptors.get(start + i).getRequires());
+        requires.add(InterfaceReference.of(interfaceName(nextIdx), "1.0"));
+        descriptors.get(start + i).setRequires(requires);
+      }
+    }
+  }
+
+  private static String moduleId(int idx) {
+    return "mod-" + idx + "-1.0.0";
+  }
+
+  private static String interfaceName(int idx) {
+    return "int-" + idx;
+  }
+}
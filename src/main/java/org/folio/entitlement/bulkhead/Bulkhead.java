@@ -0,0 +1,26 @@
+package org.folio.entitlement.bulkhead;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of concurrent calls of the annotated method (or all public methods of the annotated class) using
+ * the named {@link ConcurrencyLimiter} from {@link BulkheadRegistry}.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({METHOD, TYPE})
+public @interface Bulkhead {
+
+  /**
+   * Bulkhead name, matching the key in {@code application.bulkhead.instances} configuration.
+   *
+   * @return bulkhead name
+   */
+  String value();
+}
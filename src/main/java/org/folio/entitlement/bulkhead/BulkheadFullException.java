@@ -0,0 +1,20 @@
+package org.folio.entitlement.bulkhead;
+
+import java.io.Serial;
+import java.util.List;
+import org.folio.common.domain.model.error.Parameter;
+import org.folio.entitlement.integration.IntegrationException;
+
+public class BulkheadFullException extends IntegrationException {
+
+  @Serial private static final long serialVersionUID = -2386142719635815470L;
+
+  /**
+   * Creates a new {@link BulkheadFullException} for the bulkhead that has no available permits.
+   *
+   * @param name - bulkhead name
+   */
+  public BulkheadFullException(String name) {
+    super("Maximum number of concurrent calls is reached", List.of(new Parameter().key("bulkhead").value(name)));
+  }
+}
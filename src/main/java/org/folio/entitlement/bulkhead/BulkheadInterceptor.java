@@ -0,0 +1,76 @@
+package org.folio.entitlement.bulkhead;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Method interceptor that executes methods annotated with {@link Bulkhead} within the named concurrency limit.
+ *
+ * <p>
+ * For methods returning {@link CompletableFuture} the permit is released when the returned future is completed.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements MethodInterceptor {
+
+  private final BulkheadRegistry bulkheadRegistry;
+  private final Map<Method, Optional<String>> bulkheadNames = new ConcurrentHashMap<>();
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    if (!bulkheadRegistry.isEnabled()) {
+      return invocation.proceed();
+    }
+
+    var bulkheadName = bulkheadNames.computeIfAbsent(invocation.getMethod(), method -> findBulkheadName(invocation));
+    if (bulkheadName.isEmpty()) {
+      return invocation.proceed();
+    }
+
+    return invokeWithinLimit(invocation, bulkheadRegistry.get(bulkheadName.get()));
+  }
+
+  private static Object invokeWithinLimit(MethodInvocation invocation, ConcurrencyLimiter limiter) throws Throwable {
+    limiter.acquire();
+    Object result;
+    try {
+      result = invocation.proceed();
+    } catch (Throwable error) {
+      limiter.release();
+      throw error;
+    }
+
+    // asynchronous calls keep the permit until the returned future is completed
+    if (result instanceof CompletableFuture<?> future) {
+      return future.whenComplete((value, error) -> limiter.release());
+    }
+
+    limiter.release();
+    return result;
+  }
+
+  private static Optional<String> findBulkheadName(MethodInvocation invocation) {
+    var method = invocation.getMethod();
+    if (ReflectionUtils.isObjectMethod(method)) {
+      return Optional.empty();
+    }
+
+    var targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+    var specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+    var annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Bulkhead.class);
+    if (annotation == null) {
+      annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod.getDeclaringClass(), Bulkhead.class);
+    }
+
+    return Optional.ofNullable(annotation).map(Bulkhead::value);
+  }
+}
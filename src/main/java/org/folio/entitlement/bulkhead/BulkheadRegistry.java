@@ -0,0 +1,52 @@
+package org.folio.entitlement.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.folio.entitlement.configuration.BulkheadConfigurationProperties;
+import org.folio.entitlement.configuration.BulkheadConfigurationProperties.BulkheadProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BulkheadRegistry {
+
+  public static final String KEYCLOAK = "keycloak";
+  public static final String KONG = "kong";
+  public static final String FOLIO_MODULE = "folio-module";
+  public static final String KAFKA = "kafka";
+
+  private final BulkheadConfigurationProperties configuration;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+  /**
+   * Checks if bulkheads are enabled.
+   *
+   * @return true if calls must be limited by bulkheads, false - otherwise
+   */
+  public boolean isEnabled() {
+    return configuration.isEnabled();
+  }
+
+  /**
+   * Returns concurrency limiter by name, creating it on the first access.
+   *
+   * <p>
+   * Limiters without configuration in {@code application.bulkhead.instances} are created with default settings.
+   * </p>
+   *
+   * @param name - bulkhead name
+   * @return {@link ConcurrencyLimiter} object
+   */
+  public ConcurrencyLimiter get(String name) {
+    return limiters.computeIfAbsent(name, this::createLimiter);
+  }
+
+  private ConcurrencyLimiter createLimiter(String name) {
+    var properties = configuration.getInstances().getOrDefault(name, new BulkheadProperties());
+    return new ConcurrencyLimiter(name, properties.getMaxConcurrentCalls(), properties.getMaxWaitDuration(),
+      meterRegistry);
+  }
+}
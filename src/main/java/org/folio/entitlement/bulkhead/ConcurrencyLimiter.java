@@ -0,0 +1,88 @@
+package org.folio.entitlement.bulkhead;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entitlement.integration.IntegrationException;
+
+/**
+ * Fair semaphore based limiter of concurrent calls to an integrated system.
+ *
+ * <p>
+ * Callers that cannot acquire a permit immediately are queued in arrival order and wait up to the configured
+ * duration, then {@link BulkheadFullException} is thrown.
+ * </p>
+ */
+@Log4j2
+public class ConcurrencyLimiter {
+
+  @Getter private final String name;
+  @Getter private final int maxConcurrentCalls;
+  private final Duration maxWaitDuration;
+  private final Semaphore semaphore;
+  private final Timer waitTimer;
+  private final Counter rejectedCalls;
+
+  /**
+   * Creates {@link ConcurrencyLimiter} object.
+   *
+   * @param name - limiter name, used as metrics tag
+   * @param maxConcurrentCalls - maximum number of concurrent calls
+   * @param maxWaitDuration - maximum time to wait for a permit
+   * @param meterRegistry - meter registry to publish limiter metrics
+   */
+  public ConcurrencyLimiter(String name, int maxConcurrentCalls, Duration maxWaitDuration,
+    MeterRegistry meterRegistry) {
+    this.name = name;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitDuration = maxWaitDuration;
+    this.semaphore = new Semaphore(maxConcurrentCalls, true);
+
+    Gauge.builder("bulkhead.available.concurrent.calls", semaphore, Semaphore::availablePermits)
+      .tag("name", name).register(meterRegistry);
+    Gauge.builder("bulkhead.max.allowed.concurrent.calls", () -> maxConcurrentCalls)
+      .tag("name", name).register(meterRegistry);
+    Gauge.builder("bulkhead.queued.calls", semaphore, Semaphore::getQueueLength)
+      .tag("name", name).register(meterRegistry);
+    this.waitTimer = Timer.builder("bulkhead.wait").tag("name", name).register(meterRegistry);
+    this.rejectedCalls = Counter.builder("bulkhead.rejected.calls").tag("name", name).register(meterRegistry);
+  }
+
+  /**
+   * Acquires a permit, waiting for it up to the configured maximum wait duration.
+   *
+   * @throws BulkheadFullException if permit cannot be acquired in time
+   * @throws IntegrationException if the current thread is interrupted while waiting
+   */
+  public void acquire() {
+    var startTime = System.nanoTime();
+    try {
+      var acquired = semaphore.tryAcquire(maxWaitDuration.toNanos(), NANOSECONDS);
+      waitTimer.record(System.nanoTime() - startTime, NANOSECONDS);
+      if (!acquired) {
+        rejectedCalls.increment();
+        log.warn("Bulkhead has no available permits: name = {}, maxConcurrentCalls = {}, maxWaitDuration = {}",
+          name, maxConcurrentCalls, maxWaitDuration);
+        throw new BulkheadFullException(name);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IntegrationException(format("Interrupted while waiting for bulkhead permit: %s", name), e);
+    }
+  }
+
+  /**
+   * Releases previously acquired permit.
+   */
+  public void release() {
+    semaphore.release();
+  }
+}
@@ -0,0 +1,41 @@
+package org.folio.entitlement.configuration;
+
+import org.folio.entitlement.bulkhead.Bulkhead;
+import org.folio.entitlement.bulkhead.BulkheadInterceptor;
+import org.folio.entitlement.bulkhead.BulkheadRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class BulkheadConfiguration {
+
+  /**
+   * Creates an advisor that applies {@link BulkheadInterceptor} to beans annotated with {@link Bulkhead}.
+   *
+   * <p>
+   * Advisor has the lowest precedence, so it is applied inside retry interceptors and a permit is not held while
+   * waiting for the next retry attempt. Registry is injected lazily, because advisors are created before regular
+   * beans (e.g. meter registry) are initialized.
+   * </p>
+   *
+   * @param bulkheadRegistry - {@link BulkheadRegistry} bean
+   * @return {@link Advisor} bean
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public Advisor bulkheadAdvisor(@Lazy BulkheadRegistry bulkheadRegistry) {
+    var pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Bulkhead.class, true))
+      .union(AnnotationMatchingPointcut.forMethodAnnotation(Bulkhead.class));
+    var advisor = new DefaultPointcutAdvisor(pointcut, new BulkheadInterceptor(bulkheadRegistry));
+    advisor.setOrder(Ordered.LOWEST_PRECEDENCE);
+    return advisor;
+  }
+}
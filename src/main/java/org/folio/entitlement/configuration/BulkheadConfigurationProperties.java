@@ -0,0 +1,46 @@
+package org.folio.entitlement.configuration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.bulkhead")
+public class BulkheadConfigurationProperties {
+
+  /**
+   * Defines if calls to integrated systems must be limited by bulkheads.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Bulkhead configuration per integration name.
+   */
+  @NotNull
+  private Map<String, @Valid BulkheadProperties> instances = new HashMap<>();
+
+  @Data
+  public static class BulkheadProperties {
+
+    /**
+     * Maximum number of concurrent calls to the integrated system.
+     */
+    @Positive
+    private int maxConcurrentCalls = 10;
+
+    /**
+     * Maximum time to wait for a permit, before the call is rejected.
+     */
+    @NotNull
+    private Duration maxWaitDuration = Duration.ofMinutes(5);
+  }
+}
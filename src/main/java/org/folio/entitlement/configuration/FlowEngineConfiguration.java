@@ -1,14 +1,19 @@
 package org.folio.entitlement.configuration;
 
 import static java.lang.Boolean.TRUE;
+import static org.folio.entitlement.configuration.FlowEngineConfigurationProperties.ExecutorMode.VIRTUAL;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties.ExecutorMode;
 import org.folio.flow.api.FlowEngine;
 import org.folio.flow.utils.StageReportProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -25,7 +30,7 @@ public class FlowEngineConfiguration {
   public FlowEngine flowEngine(FlowEngineConfigurationProperties configuration) {
     return FlowEngine.builder()
       .name("entitlement-flow-engine")
-      .executor(inheritedClassLoaderPool(configuration.getPoolThreads()))
+      .executor(createExecutor("flow-engine", configuration.getPoolThreads(), configuration.getExecutorMode()))
       .executionTimeout(configuration.getExecutionTimeout())
       .printFlowResult(TRUE.equals(configuration.getPrintFlowResult()))
       .stageReportProvider(StageReportProvider.builder()
@@ -46,19 +51,45 @@ public class FlowEngineConfiguration {
   @Bean("moduleInstallerExecutor")
   public Executor moduleInstallerExecutor(FlowEngineConfigurationProperties configuration) {
     var threadsNumber = configuration.getModuleInstallerThreads();
-    log.info("Creating module installer executor with {} threads", threadsNumber);
-    var fixedThreadPool = Executors.newFixedThreadPool(threadsNumber);
-    return new DelegatingSecurityContextExecutor(fixedThreadPool, SecurityContextHolder.getContext());
+    return createExecutor("module-installer", threadsNumber, configuration.getExecutorMode());
   }
 
-  private static Executor inheritedClassLoaderPool(int threadsNumber) {
-    log.info("Creating Flow engine fixed pool with {} threads", threadsNumber);
-    var fixedThreadPool = Executors.newFixedThreadPool(threadsNumber);
-    return new DelegatingSecurityContextExecutor(fixedThreadPool, SecurityContextHolder.getContext());
+  /**
+   * Creates an executor for the given {@link ExecutorMode}, wrapped to propagate the security context.
+   *
+   * <p>
+   * In the virtual mode each task is executed by a new virtual thread, so thread locals (e.g.
+   * {@link org.folio.entitlement.service.stage.ThreadLocalModuleStageContext}) are never shared between tasks.
+   * </p>
+   *
+   * @param name - executor name, used as a thread name prefix
+   * @param threadsNumber - number of threads for the platform mode
+   * @param executorMode - executor mode
+   * @return created {@link Executor} object
+   */
+  private static Executor createExecutor(String name, int threadsNumber, ExecutorMode executorMode) {
+    ExecutorService executorService;
+    if (executorMode == VIRTUAL) {
+      log.info("Creating {} executor with virtual threads", name);
+      executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    } else {
+      log.info("Creating {} executor with fixed pool of {} threads", name, threadsNumber);
+      executorService = Executors.newFixedThreadPool(threadsNumber);
+    }
+
+    return new DelegatingSecurityContextExecutor(executorService, SecurityContextHolder.getContext());
   }
 
   private static String shortenStageId(String stageId) {
     var stageIdParts = stageId.split("/");
     return stageIdParts[stageIdParts.length - 1];
   }
+
+  /**
+   * Enables scheduled writes of the queued flow stage statuses.
+   */
+  @Configuration
+  @EnableScheduling
+  @ConditionalOnProperty("application.flow-engine.stage-status-writer.enabled")
+  public static class StageStatusWriterConfiguration {}
 }
@@ -1,5 +1,6 @@
 package org.folio.entitlement.configuration;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -46,4 +47,80 @@ public class FlowEngineConfigurationProperties {
   @Min(1)
   @Max(12)
   private int moduleInstallerThreads = 4;
+
+  /**
+   * Defines how flow engine and module installer executors run their tasks: on a fixed pool of platform threads or on
+   * a new virtual thread per task. Thread counts are ignored in the virtual mode.
+   */
+  @NotNull
+  private ExecutorMode executorMode = ExecutorMode.PLATFORM;
+
+  /**
+   * Module installation sequence cache configuration.
+   */
+  @Valid
+  @NotNull
+  private SequenceCache sequenceCache = new SequenceCache();
+
+  /**
+   * Write-behind flow stage status writer configuration.
+   */
+  @Valid
+  @NotNull
+  private StageStatusWriter stageStatusWriter = new StageStatusWriter();
+
+  @Data
+  public static class SequenceCache {
+
+    /**
+     * Defines if computed module installation sequences must be cached.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum amount of cached module installation sequences.
+     */
+    @Positive
+    private long maxSize = 250;
+  }
+
+  @Data
+  public static class StageStatusWriter {
+
+    /**
+     * Defines if flow stage statuses must be queued and written to the database in batches.
+     */
+    private boolean enabled;
+
+    /**
+     * Delay between scheduled writes of queued flow stage statuses.
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Amount of queued flow stage statuses that triggers a write.
+     */
+    @Positive
+    private int batchSize = 500;
+
+    /**
+     * Maximum amount of queued flow stage statuses, a full queue is written by the calling stage.
+     */
+    @Positive
+    private int queueCapacity = 10_000;
+  }
+
+  public enum ExecutorMode {
+
+    /**
+     * Fixed pool of platform threads, sized by the thread count properties.
+     */
+    PLATFORM,
+
+    /**
+     * New virtual thread per submitted task.
+     */
+    VIRTUAL
+  }
 }
@@ -0,0 +1,60 @@
+package org.folio.entitlement.domain.entity;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import java.time.ZonedDateTime;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Data
+@Entity
+@Table(name = "event_outbox")
+public class OutboxEventEntity {
+
+  /**
+   * A sequential identifier, defines the order in which events are relayed.
+   */
+  @Id
+  @GeneratedValue(strategy = IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  /**
+   * A kafka topic name.
+   */
+  @Column(name = "topic")
+  private String topic;
+
+  /**
+   * A kafka message key.
+   */
+  @Column(name = "message_key")
+  private String messageKey;
+
+  /**
+   * An event body as json string.
+   */
+  @Column(name = "payload")
+  private String payload;
+
+  /**
+   * Kafka message headers as json object with string values, nullable.
+   */
+  @Column(name = "headers")
+  private String headers;
+
+  /**
+   * Timestamp when an event is stored.
+   */
+  @CreationTimestamp
+  @Temporal(TemporalType.TIMESTAMP)
+  @Column(name = "created_at", updatable = false)
+  private ZonedDateTime createdAt;
+}
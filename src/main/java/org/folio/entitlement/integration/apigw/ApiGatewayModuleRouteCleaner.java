@@ -1,8 +1,11 @@
 package org.folio.entitlement.integration.apigw;
 
+import static org.folio.entitlement.bulkhead.BulkheadRegistry.KONG;
+
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entitlement.bulkhead.Bulkhead;
 import org.folio.entitlement.domain.model.ModuleStageContext;
 import org.folio.entitlement.integration.kafka.model.ModuleType;
 import org.folio.entitlement.service.EntitlementModuleService;
@@ -18,6 +21,7 @@ public class ApiGatewayModuleRouteCleaner extends ModuleDatabaseLoggingStage {
   private final EntitlementModuleService entitlementModuleService;
 
   @Override
+  @Bulkhead(KONG)
   public void execute(ModuleStageContext context) {
     if (context.getModuleType() == ModuleType.UI_MODULE) {
       return;
@@ -1,10 +1,12 @@
 package org.folio.entitlement.integration.apigw;
 
+import static org.folio.entitlement.bulkhead.BulkheadRegistry.KONG;
 import static org.folio.entitlement.utils.EntitlementServiceUtils.isModuleUpdated;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entitlement.bulkhead.Bulkhead;
 import org.folio.entitlement.domain.model.ModuleStageContext;
 import org.folio.entitlement.integration.kafka.model.ModuleType;
 import org.folio.entitlement.service.EntitlementModuleService;
@@ -21,6 +23,7 @@ public class ApiGatewayModuleRouteUpdater extends ModuleDatabaseLoggingStage {
   private final EntitlementModuleService entitlementModuleService;
 
   @Override
+  @Bulkhead(KONG)
   public void execute(ModuleStageContext context) {
     if (context.getModuleType() == ModuleType.UI_MODULE) {
       return;
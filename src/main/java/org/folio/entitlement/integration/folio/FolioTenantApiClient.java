@@ -1,38 +1,58 @@
 package org.folio.entitlement.integration.folio;
 
+import static java.lang.Boolean.TRUE;
 import static java.lang.String.format;
 import static java.net.http.HttpClient.Version.HTTP_1_1;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.folio.common.utils.OkapiHeaders.TENANT;
+import static org.folio.entitlement.bulkhead.BulkheadRegistry.FOLIO_MODULE;
+import static org.folio.entitlement.integration.folio.TenantApiBodyHandlers.ofErrorBody;
+import static org.folio.entitlement.integration.folio.TenantApiBodyHandlers.ofStringOrErrorBody;
 import static org.folio.entitlement.utils.TenantApiUtils.DISABLE_TENANT_ENDPOINT;
 import static org.folio.entitlement.utils.TenantApiUtils.TENANT_ENDPOINT;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodyHandler;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.domain.model.error.Parameter;
+import org.folio.entitlement.bulkhead.Bulkhead;
 import org.folio.entitlement.integration.IntegrationException;
 import org.folio.entitlement.integration.folio.configuration.FolioClientConfigurationProperties;
 import org.folio.entitlement.integration.folio.model.ModuleRequest;
 import org.folio.entitlement.integration.folio.model.TenantAttributes;
+import org.folio.entitlement.integration.folio.model.TenantJob;
 import org.folio.entitlement.utils.JsonConverter;
 import org.springframework.http.HttpMethod;
 
 @Log4j2
 @RequiredArgsConstructor
+@Bulkhead(FOLIO_MODULE)
 public class FolioTenantApiClient {
 
   public static final String POST = HttpMethod.POST.name();
   public static final String DELETE = HttpMethod.DELETE.name();
+  public static final String GET = HttpMethod.GET.name();
 
   private final HttpClient httpClient;
   private final JsonConverter jsonConverter;
@@ -82,14 +102,22 @@ public class FolioTenantApiClient {
 
   private void sendHttpRequest(ModuleRequest request, TenantAttributes requestBody, String httpMethod,
     String endpoint) {
-    var jsonBody = jsonConverter.toJson(requestBody);
-    var httpRequest = createHttpRequest(request, jsonBody, httpMethod, endpoint);
-    var httpResponse = sendRequest(httpRequest);
+    var httpRequest = createHttpRequest(request, requestBody, httpMethod, endpoint);
+    await(sendHttpRequestAsync(request, httpRequest), httpRequest);
+  }
+
+  private CompletableFuture<Void> sendHttpRequestAsync(ModuleRequest request, HttpRequest httpRequest) {
+    return sendRequest(httpRequest, ofErrorBody(getMaxErrorBodySize()))
+      .thenCompose(httpResponse -> handleResponse(request, httpRequest, httpResponse));
+  }
+
+  private CompletableFuture<Void> handleResponse(ModuleRequest request, HttpRequest httpRequest,
+    HttpResponse<String> httpResponse) {
     var statusCode = httpResponse.statusCode();
     if (statusCode > 300) {
       var responseBody = httpResponse.body();
       log.info("Module responded with error code: uri = {}, code = {}, responseBody = {},\n"
-        + "moduleId = {}, applicationId = {}, tenant = {}",
+          + "moduleId = {}, applicationId = {}, tenant = {}",
         httpRequest.uri().getPath(), statusCode, responseBody,
         request.getModuleId(), request.getApplicationId(), request.getTenantName());
 
@@ -97,34 +125,166 @@ public class FolioTenantApiClient {
         List.of(new Parameter().key("cause").value(format("%s: %s", statusCode, responseBody))), statusCode);
     }
 
+    if (statusCode == CREATED.value()) {
+      var jobLocation = httpResponse.headers().firstValue(LOCATION);
+      if (jobLocation.isPresent()) {
+        return awaitTenantJob(request, jobLocation.get());
+      }
+    }
+
     if (statusCode != NO_CONTENT.value()) {
       log.debug("Module responded with code: {}, expected '[204] No Content' [moduleId='{}', url={}, tenant='{}']",
         statusCode, request.getModuleId(), request.getLocation(), request.getTenantName());
     }
+
+    return completedFuture(null);
+  }
+
+  /**
+   * Awaits tenant API v2 asynchronous job, created by module in response to the tenant request.
+   */
+  private CompletableFuture<Void> awaitTenantJob(ModuleRequest request, String jobLocation) {
+    var jobUri = getTenantJobUri(request.getLocation(), jobLocation);
+    log.debug("Module responded with tenant job: moduleId = {}, job = {}", request.getModuleId(), jobUri);
+    var deadline = System.nanoTime() + clientConfiguration.getTenantJob().getTimeout().toNanos();
+    return pollTenantJob(request, jobUri, deadline);
+  }
+
+  /**
+   * Appends tenant job path from {@code Location} header to the module location, keeping any path prefix of it.
+   */
+  private static URI getTenantJobUri(String moduleLocation, String jobLocation) {
+    var jobUri = URI.create(jobLocation);
+    if (jobUri.isAbsolute()) {
+      return jobUri;
+    }
+
+    return URI.create(removeEnd(moduleLocation, "/") + "/" + removeStart(jobLocation, "/"));
   }
 
-  private HttpRequest createHttpRequest(ModuleRequest request, String jsonBody, String httpMethod, String endpoint) {
+  /**
+   * Polls tenant job status using long-poll requests, the delay between requests is scheduled without blocking
+   * any thread.
+   */
+  private CompletableFuture<Void> pollTenantJob(ModuleRequest request, URI jobUri, long deadline) {
+    var pollWait = clientConfiguration.getTenantJob().getPollWait();
+    var pollUri = URI.create(jobUri + "?wait=" + pollWait.toMillis());
+    var pollRequest = createHttpRequest(request, pollUri, GET, BodyPublishers.noBody(), pollWait);
+
+    return sendRequest(pollRequest, ofStringOrErrorBody(getMaxErrorBodySize())).thenCompose(httpResponse -> {
+      var tenantJob = getTenantJob(request, pollRequest, httpResponse);
+      return TRUE.equals(tenantJob.getComplete())
+        ? finishTenantJob(request, jobUri, tenantJob)
+        : schedulePollTenantJob(request, jobUri, deadline);
+    });
+  }
+
+  private CompletableFuture<Void> schedulePollTenantJob(ModuleRequest request, URI jobUri, long deadline) {
+    if (System.nanoTime() - deadline > 0) {
+      log.info("Tenant job is not completed in time: moduleId = {}, job = {}", request.getModuleId(), jobUri);
+      throw new IntegrationException("Tenant job is not completed in time", List.of(
+        new Parameter().key("moduleId").value(request.getModuleId()),
+        new Parameter().key("job").value(jobUri.toString())));
+    }
+
+    var pollDelay = clientConfiguration.getTenantJob().getPollDelay();
+    var delayedExecutor = CompletableFuture.delayedExecutor(pollDelay.toMillis(), MILLISECONDS);
+    return CompletableFuture.runAsync(() -> {}, delayedExecutor)
+      .thenCompose(unused -> pollTenantJob(request, jobUri, deadline));
+  }
+
+  private TenantJob getTenantJob(ModuleRequest request, HttpRequest pollRequest, HttpResponse<String> httpResponse) {
+    var statusCode = httpResponse.statusCode();
+    if (statusCode != OK.value()) {
+      var responseBody = httpResponse.body();
+      log.info("Failed to get tenant job status: uri = {}, code = {}, responseBody = {}, moduleId = {}, tenant = {}",
+        pollRequest.uri().getPath(), statusCode, responseBody, request.getModuleId(), request.getTenantName());
+      throw new IntegrationException("Failed to get tenant job status",
+        List.of(new Parameter().key("cause").value(format("%s: %s", statusCode, responseBody))), statusCode);
+    }
+
+    return jsonConverter.fromJson(httpResponse.body(), TenantJob.class);
+  }
+
+  private CompletableFuture<Void> finishTenantJob(ModuleRequest request, URI jobUri, TenantJob tenantJob) {
+    var deleteRequest = createHttpRequest(request, jobUri, DELETE, BodyPublishers.noBody(), null);
+    return sendRequest(deleteRequest, ofErrorBody(getMaxErrorBodySize()))
+      .handle((httpResponse, error) -> {
+        if (error != null) {
+          log.warn("Failed to delete completed tenant job: moduleId = {}, job = {}, cause = {}",
+            request.getModuleId(), jobUri, error.getMessage());
+        }
+        return tenantJob;
+      })
+      .thenAccept(job -> {
+        if (job.getError() != null) {
+          var error = abbreviate(job.getError(), getMaxErrorBodySize());
+          log.info("Tenant job failed: moduleId = {}, job = {}, error = {}", request.getModuleId(), jobUri, error);
+          throw new IntegrationException("Failed to perform doPostTenant call",
+            List.of(new Parameter().key("cause").value(error)));
+        }
+      });
+  }
+
+  private HttpRequest createHttpRequest(ModuleRequest request, TenantAttributes requestBody, String httpMethod,
+    String endpoint) {
+    var jsonBody = jsonConverter.toJson(requestBody);
+    var uri = URI.create(request.getLocation() + endpoint);
+    return createHttpRequest(request, uri, httpMethod, BodyPublishers.ofString(jsonBody), null);
+  }
+
+  private HttpRequest createHttpRequest(ModuleRequest request, URI uri, String httpMethod,
+    BodyPublisher bodyPublisher, Duration additionalTimeout) {
+    var timeout = clientConfiguration.getReadTimeout();
     return HttpRequest.newBuilder()
-      .uri(URI.create(request.getLocation() + endpoint))
-      .method(httpMethod, BodyPublishers.ofString(jsonBody))
+      .uri(uri)
+      .method(httpMethod, bodyPublisher)
       .header(CONTENT_TYPE, APPLICATION_JSON_VALUE)
       .header(TENANT, request.getTenantName())
-      .timeout(clientConfiguration.getReadTimeout())
+      .timeout(additionalTimeout == null ? timeout : timeout.plus(additionalTimeout))
       .version(HTTP_1_1)
       .build();
   }
 
-  private HttpResponse<String> sendRequest(HttpRequest request) {
+  private int getMaxErrorBodySize() {
+    return Math.toIntExact(clientConfiguration.getMaxErrorBodySize().toBytes());
+  }
+
+  private CompletableFuture<HttpResponse<String>> sendRequest(HttpRequest request, BodyHandler<String> bodyHandler) {
+    return httpClient.sendAsync(request, bodyHandler)
+      .exceptionally(error -> {
+        var cause = unwrap(error);
+        throw new IntegrationException(format("[%s] Failed to perform request [method: %s, uri: %s]",
+          cause.getClass().getSimpleName(), request.method(), request.uri()), cause);
+      });
+  }
+
+  private static void await(CompletableFuture<Void> future, HttpRequest request) {
     try {
-      return httpClient.send(request, BodyHandlers.ofString());
-    } catch (IOException error) {
-      throw new IntegrationException(format("[%s] Failed to perform request [method: %s, uri: %s]",
-        error.getClass().getSimpleName(), request.method(), request.uri()), error);
+      future.get();
     } catch (InterruptedException error) {
+      future.cancel(true);
       Thread.currentThread().interrupt();
       throw new IntegrationException(format("Request has been interrupted [method: %s, uri: %s]",
         request.method(), request.uri()), error);
+    } catch (ExecutionException error) {
+      var cause = unwrap(error);
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      throw new IntegrationException(format("[%s] Failed to perform request [method: %s, uri: %s]",
+        cause.getClass().getSimpleName(), request.method(), request.uri()), cause);
+    }
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    var cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
     }
+
+    return cause;
   }
 
   private static TenantAttributes createInstallAttributes(String moduleId, List<Parameter> parameters) {
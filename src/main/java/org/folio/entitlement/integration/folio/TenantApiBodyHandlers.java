@@ -0,0 +1,102 @@
+package org.folio.entitlement.integration.folio;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow.Subscription;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TenantApiBodyHandlers {
+
+  static final String TRUNCATED_BODY_SUFFIX = "... [truncated]";
+
+  /**
+   * Creates a body handler that discards response body for successful responses and captures at most
+   * {@code maxBytes} of the body for error responses (status code greater than 300).
+   *
+   * @param maxBytes - maximum number of body bytes to keep
+   * @return created {@link BodyHandler} object
+   */
+  public static BodyHandler<String> ofErrorBody(int maxBytes) {
+    return responseInfo -> responseInfo.statusCode() > 300
+      ? new BoundedStringSubscriber(maxBytes)
+      : BodySubscribers.replacing((String) null);
+  }
+
+  /**
+   * Creates a body handler that reads the whole body of successful responses as UTF-8 string and captures at most
+   * {@code maxBytes} of the body for error responses (status code greater than 300).
+   *
+   * @param maxBytes - maximum number of error body bytes to keep
+   * @return created {@link BodyHandler} object
+   */
+  public static BodyHandler<String> ofStringOrErrorBody(int maxBytes) {
+    return responseInfo -> responseInfo.statusCode() > 300
+      ? new BoundedStringSubscriber(maxBytes)
+      : BodySubscribers.ofString(UTF_8);
+  }
+
+  /**
+   * Body subscriber that copies only the first {@code maxBytes} of the response body and drains the rest, so the
+   * connection can be reused without buffering the whole body.
+   */
+  static final class BoundedStringSubscriber implements BodySubscriber<String> {
+
+    private final int maxBytes;
+    private final ByteArrayOutputStream buffer;
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private boolean truncated;
+
+    BoundedStringSubscriber(int maxBytes) {
+      this.maxBytes = maxBytes;
+      this.buffer = new ByteArrayOutputStream(Math.min(maxBytes, 1024));
+    }
+
+    @Override
+    public CompletionStage<String> getBody() {
+      return result;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+      for (var item : items) {
+        var remaining = maxBytes - buffer.size();
+        var length = Math.min(remaining, item.remaining());
+        if (length < item.remaining()) {
+          truncated = true;
+        }
+
+        if (length > 0) {
+          var bytes = new byte[length];
+          item.get(bytes);
+          buffer.write(bytes, 0, length);
+        }
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      var body = buffer.toString(UTF_8);
+      result.complete(truncated ? body + TRUNCATED_BODY_SUFFIX : body);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Data
 @Component
@@ -25,4 +26,33 @@ public class FolioClientConfigurationProperties {
    * TLS properties for folio-client.
    */
   private TlsProperties tls;
+
+  /**
+   * Maximum size of the module error response body kept for logging and error messages, the rest is discarded.
+   */
+  private DataSize maxErrorBodySize = DataSize.ofKilobytes(64);
+
+  /**
+   * Tenant API v2 asynchronous job polling properties.
+   */
+  private TenantJobProperties tenantJob = new TenantJobProperties();
+
+  @Data
+  public static class TenantJobProperties {
+
+    /**
+     * Long-poll duration passed as {@code wait} query parameter of the tenant job status request.
+     */
+    private Duration pollWait = Duration.ofSeconds(60);
+
+    /**
+     * Delay between tenant job status requests.
+     */
+    private Duration pollDelay = Duration.ofSeconds(1);
+
+    /**
+     * Maximum time to wait for the tenant job completion.
+     */
+    private Duration timeout = Duration.ofMinutes(60);
+  }
 }
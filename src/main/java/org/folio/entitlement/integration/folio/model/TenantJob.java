@@ -0,0 +1,24 @@
+package org.folio.entitlement.integration.folio.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TenantJob {
+
+  /**
+   * Tenant job identifier.
+   */
+  private String id;
+
+  /**
+   * Defines if tenant job is completed (successfully or with an error).
+   */
+  private Boolean complete;
+
+  /**
+   * Error message, if tenant job has failed.
+   */
+  private String error;
+}
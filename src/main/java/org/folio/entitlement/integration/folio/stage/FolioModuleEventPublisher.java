@@ -4,6 +4,7 @@ import static org.folio.entitlement.domain.dto.EntitlementType.ENTITLE;
 import static org.folio.entitlement.domain.dto.EntitlementType.REVOKE;
 import static org.folio.entitlement.utils.EntitlementServiceUtils.isModuleUpdated;
 
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entitlement.domain.dto.EntitlementType;
@@ -22,20 +23,21 @@ public class FolioModuleEventPublisher extends ModuleDatabaseLoggingStage {
   public void execute(ModuleStageContext context) {
     var moduleDescriptor = context.getModuleDescriptor();
     var installedModuleDescriptor = context.getInstalledModuleDescriptor();
+    var flowId = context.getCurrentFlowId();
 
     if (!isModuleUpdated(moduleDescriptor, installedModuleDescriptor)) {
       return;
     }
 
     if (moduleDescriptor == null) {
-      publishEvent(getEntitlementEvent(installedModuleDescriptor.getId(), context, REVOKE));
+      publishEvent(flowId, getEntitlementEvent(installedModuleDescriptor.getId(), context, REVOKE));
       return;
     }
 
     if (installedModuleDescriptor != null) {
-      publishEvent(getEntitlementEvent(installedModuleDescriptor.getId(), context, REVOKE));
+      publishEvent(flowId, getEntitlementEvent(installedModuleDescriptor.getId(), context, REVOKE));
     }
-    publishEvent(getEntitlementEvent(moduleDescriptor.getId(), context, context.getEntitlementType()));
+    publishEvent(flowId, getEntitlementEvent(moduleDescriptor.getId(), context, context.getEntitlementType()));
   }
 
   @Override
@@ -44,11 +46,13 @@ public class FolioModuleEventPublisher extends ModuleDatabaseLoggingStage {
       return;
     }
 
-    publishEvent(getEntitlementEvent(context.getModuleId(), context, REVOKE));
+    var event = getEntitlementEvent(context.getModuleId(), context, REVOKE);
+    publisher.publishOnCancel(context.getCurrentFlowId(), event);
+    log.debug("Published event: event = {}", event);
   }
 
-  private void publishEvent(EntitlementEvent event) {
-    publisher.publish(event);
+  private void publishEvent(UUID flowId, EntitlementEvent event) {
+    publisher.publish(flowId, event);
     log.debug("Published event: event = {}", event);
   }
 
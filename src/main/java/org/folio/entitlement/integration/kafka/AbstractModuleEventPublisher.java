@@ -4,6 +4,7 @@ import static org.folio.entitlement.utils.EntitlementServiceUtils.isModuleUpdate
 import static org.folio.entitlement.utils.EntitlementServiceUtils.isModuleVersionChanged;
 
 import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.folio.common.domain.model.ModuleDescriptor;
@@ -29,12 +30,13 @@ public abstract class AbstractModuleEventPublisher<T> extends ModuleDatabaseLogg
     var applicationId = ctx.getApplicationId();
     var entitledApplicationId = ctx.getEntitledApplicationId();
     var messageKey = ctx.getTenantName();
+    var flowId = ctx.getCurrentFlowId();
 
     if (!isModuleUpdated(moduleDesc, installedModuleDesc)) {
       if (isModuleVersionChanged(moduleDesc, installedModuleDesc)) {
         getEventPayloadForNotChangedModule(applicationId, entitledApplicationId, type, moduleDesc, installedModuleDesc)
           .flatMap(payload -> createEvent(tenant, payload.getLeft(), payload.getRight()))
-          .ifPresent(evt -> kafkaEventPublisher.send(getTopicName(tenant), messageKey, evt));
+          .ifPresent(evt -> publishEvent(flowId, getTopicName(tenant), messageKey, evt));
       }
 
       return;
@@ -44,7 +46,7 @@ public abstract class AbstractModuleEventPublisher<T> extends ModuleDatabaseLogg
     var oldPayload = getEventPayload(entitledApplicationId, type, installedModuleDesc).orElse(null);
 
     var topicName = getTopicName(tenant);
-    createEvent(tenant, newPayload, oldPayload).ifPresent(evt -> kafkaEventPublisher.send(topicName, messageKey, evt));
+    createEvent(tenant, newPayload, oldPayload).ifPresent(evt -> publishEvent(flowId, topicName, messageKey, evt));
   }
 
   @Autowired
@@ -103,6 +105,18 @@ public abstract class AbstractModuleEventPublisher<T> extends ModuleDatabaseLogg
     return Optional.empty();
   }
 
+  /**
+   * Sends created event to the topic.
+   *
+   * @param applicationFlowId - application flow identifier
+   * @param topicName - kafka topic name
+   * @param messageKey - message key
+   * @param event - {@link ResourceEvent} to send
+   */
+  protected void publishEvent(UUID applicationFlowId, String topicName, String messageKey, ResourceEvent<T> event) {
+    kafkaEventPublisher.send(applicationFlowId, topicName, messageKey, event);
+  }
+
   /**
    * Creates {@link ResourceEvent} object for given tenant nane, new and old event bodies.
    *
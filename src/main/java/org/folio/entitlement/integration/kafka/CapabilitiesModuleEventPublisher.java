@@ -16,6 +16,8 @@ import static org.folio.entitlement.integration.kafka.KafkaEventUtils.TOPIC_TENA
 import static org.folio.entitlement.utils.RoutingEntryUtils.getMethods;
 import static org.folio.integration.kafka.producer.KafkaUtils.getTenantTopicName;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -27,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.tuple.Pair;
@@ -39,6 +42,8 @@ import org.folio.entitlement.integration.kafka.model.CapabilityEventPayload;
 import org.folio.entitlement.integration.kafka.model.Endpoint;
 import org.folio.entitlement.integration.kafka.model.FolioResource;
 import org.folio.entitlement.integration.kafka.model.ModuleType;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -46,9 +51,44 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CapabilitiesModuleEventPublisher extends AbstractModuleEventPublisher<CapabilityEventPayload> {
 
+  private static final long PAYLOAD_CACHE_MAX_SIZE = 500;
+
+  /**
+   * Capability payloads depend only on the module descriptor and application id, so a payload is computed once per
+   * module and reused for every tenant the application is entitled for.
+   */
+  private final Cache<PayloadKey, Optional<CapabilityEventPayload>> payloads = Caffeine.newBuilder()
+    .maximumSize(PAYLOAD_CACHE_MAX_SIZE)
+    .build();
+
+  private CapabilityEventChunker capabilityEventChunker;
+
   @Override
   protected Optional<CapabilityEventPayload> getEventPayload(String appId, ModuleType type, ModuleDescriptor desc) {
-    return getCapabilityEventPayload(appId, type, desc);
+    if (desc == null || desc.getId() == null) {
+      return getCapabilityEventPayload(appId, type, desc);
+    }
+
+    var key = new PayloadKey(appId, type, desc.getId());
+    return payloads.get(key, k -> getCapabilityEventPayload(appId, type, desc));
+  }
+
+  @Override
+  protected void publishEvent(UUID applicationFlowId, String topicName, String messageKey,
+    ResourceEvent<CapabilityEventPayload> event) {
+    if (capabilityEventChunker == null) {
+      super.publishEvent(applicationFlowId, topicName, messageKey, event);
+      return;
+    }
+
+    for (var producerRecord : capabilityEventChunker.split(topicName, messageKey, event)) {
+      kafkaEventPublisher.send(applicationFlowId, producerRecord);
+    }
+  }
+
+  @Autowired(required = false)
+  public void setCapabilityEventChunker(CapabilityEventChunker capabilityEventChunker) {
+    this.capabilityEventChunker = capabilityEventChunker;
   }
 
   @Override
@@ -196,4 +236,6 @@ public class CapabilitiesModuleEventPublisher extends AbstractModuleEventPublish
   }
 
   private record ResourceHolder(List<FolioResource> folioResources, Set<String> visitedPermissions) {}
+
+  private record PayloadKey(String applicationId, ModuleType moduleType, String moduleId) {}
 }
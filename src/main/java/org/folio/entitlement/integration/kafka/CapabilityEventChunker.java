@@ -0,0 +1,129 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.collections4.CollectionUtils.size;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
+import org.folio.entitlement.integration.kafka.model.CapabilityEventPayload;
+import org.folio.entitlement.integration.kafka.model.FolioResource;
+import org.folio.entitlement.utils.JsonConverter;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Splits capability events of large modules into several messages, bounded by the configured max size.
+ *
+ * <p>
+ * Each chunk is a regular capability event with a part of the module resources, marked with chunk index, chunk count
+ * and correlation id headers. Only events of created or removed modules are split: an update event is compared by
+ * consumers as a whole, so a partial resource list would be treated as removed resources.
+ * </p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("application.kafka.capability-chunking.enabled")
+public class CapabilityEventChunker {
+
+  public static final String CHUNK_INDEX_HEADER = "folio-chunk-index";
+  public static final String CHUNK_COUNT_HEADER = "folio-chunk-count";
+  public static final String CHUNK_CORRELATION_ID_HEADER = "folio-chunk-correlation-id";
+
+  private final JsonConverter jsonConverter;
+  private final TenantEntitlementKafkaProperties kafkaProperties;
+
+  /**
+   * Creates producer records for the capability event, splitting it into chunks if it exceeds the max size.
+   *
+   * @param topic - kafka topic name
+   * @param key - message key
+   * @param event - capability {@link ResourceEvent}
+   * @return list of {@link ProducerRecord} objects to send
+   */
+  public List<ProducerRecord<String, Object>> split(String topic, String key,
+    ResourceEvent<CapabilityEventPayload> event) {
+    var maxSize = kafkaProperties.getCapabilityChunking().getMaxSize().toBytes();
+    if (!isSplittable(event) || getSize(event) <= maxSize) {
+      return List.of(new ProducerRecord<>(topic, key, event));
+    }
+
+    var payload = getPayload(event);
+    var emptyEventSize = getSize(withResources(event, emptyList()));
+    var chunks = partition(payload.getResources(), maxSize - emptyEventSize);
+    var correlationId = UUID.randomUUID().toString();
+    log.debug("Capability event is split into chunks: moduleId = {}, chunks = {}, correlationId = {}",
+      payload.getModuleId(), chunks.size(), correlationId);
+
+    var records = new ArrayList<ProducerRecord<String, Object>>(chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      var headers = new RecordHeaders(List.of(header(CHUNK_INDEX_HEADER, String.valueOf(i)),
+        header(CHUNK_COUNT_HEADER, String.valueOf(chunks.size())), header(CHUNK_CORRELATION_ID_HEADER, correlationId)));
+      records.add(new ProducerRecord<>(topic, null, key, withResources(event, chunks.get(i)), headers));
+    }
+
+    return records;
+  }
+
+  private List<List<FolioResource>> partition(List<FolioResource> resources, long maxResourcesSize) {
+    var chunks = new ArrayList<List<FolioResource>>();
+    var chunk = new ArrayList<FolioResource>();
+    var chunkSize = 0L;
+    for (var resource : resources) {
+      var resourceSize = getSize(resource) + 1;
+      if (!chunk.isEmpty() && chunkSize + resourceSize > maxResourcesSize) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>();
+        chunkSize = 0L;
+      }
+
+      chunk.add(resource);
+      chunkSize += resourceSize;
+    }
+
+    chunks.add(chunk);
+    return chunks;
+  }
+
+  private long getSize(Object value) {
+    return jsonConverter.toJson(value).getBytes(UTF_8).length;
+  }
+
+  private static boolean isSplittable(ResourceEvent<CapabilityEventPayload> event) {
+    var isCreateOrDelete = event.getNewValue() == null || event.getOldValue() == null;
+    return isCreateOrDelete && size(getPayload(event).getResources()) > 1;
+  }
+
+  private static CapabilityEventPayload getPayload(ResourceEvent<CapabilityEventPayload> event) {
+    return event.getNewValue() != null ? event.getNewValue() : event.getOldValue();
+  }
+
+  private static ResourceEvent<CapabilityEventPayload> withResources(ResourceEvent<CapabilityEventPayload> event,
+    List<FolioResource> resources) {
+    var payload = getPayload(event);
+    var chunkPayload = CapabilityEventPayload.of(payload.getModuleId(), payload.getModuleType(),
+      payload.getApplicationId(), resources);
+
+    return ResourceEvent.<CapabilityEventPayload>baseBuilder()
+      .tenant(event.getTenant())
+      .type(event.getType())
+      .resourceName(event.getResourceName())
+      .newValue(event.getNewValue() != null ? chunkPayload : null)
+      .oldValue(event.getNewValue() != null ? null : chunkPayload)
+      .build();
+  }
+
+  private static Header header(String name, String value) {
+    return new RecordHeader(name, value.getBytes(UTF_8));
+  }
+}
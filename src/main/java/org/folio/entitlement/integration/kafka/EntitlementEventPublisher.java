@@ -2,6 +2,7 @@ package org.folio.entitlement.integration.kafka;
 
 import static org.folio.integration.kafka.producer.KafkaUtils.getEnvTopicName;
 
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.entitlement.integration.kafka.model.EntitlementEvent;
 import org.springframework.stereotype.Service;
@@ -13,12 +14,27 @@ public class EntitlementEventPublisher {
   private final KafkaEventPublisher kafkaEventPublisher;
 
   /**
-   * Sends module entitlement event to 'entitlement' tenant-specific topic.
+   * Sends module entitlement event to 'entitlement' tenant-specific topic as a part of application flow.
    *
+   * @param applicationFlowId - application flow identifier
    * @param event - {@link EntitlementEvent} event body
    */
-  public void publish(EntitlementEvent event) {
-    var entitlementTopic = getEnvTopicName("entitlement");
-    kafkaEventPublisher.send(entitlementTopic, event.getTenantName() + "_" + event.getModuleId(), event);
+  public void publish(UUID applicationFlowId, EntitlementEvent event) {
+    kafkaEventPublisher.send(applicationFlowId, getEnvTopicName("entitlement"), getMessageKey(event), event);
+  }
+
+  /**
+   * Sends compensating module entitlement event to 'entitlement' tenant-specific topic on application flow
+   * cancellation.
+   *
+   * @param applicationFlowId - application flow identifier
+   * @param event - {@link EntitlementEvent} event body
+   */
+  public void publishOnCancel(UUID applicationFlowId, EntitlementEvent event) {
+    kafkaEventPublisher.sendOnCancel(applicationFlowId, getEnvTopicName("entitlement"), getMessageKey(event), event);
+  }
+
+  private static String getMessageKey(EntitlementEvent event) {
+    return event.getTenantName() + "_" + event.getModuleId();
   }
 }
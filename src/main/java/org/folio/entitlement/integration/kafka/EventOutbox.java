@@ -0,0 +1,88 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.folio.entitlement.domain.entity.OutboxEventEntity;
+import org.folio.entitlement.repository.OutboxEventRepository;
+import org.folio.entitlement.utils.JsonConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects events sent by a flow stage and stores them in the outbox table.
+ *
+ * <p>
+ * Events are kept per thread until the stage status is updated by
+ * {@link org.folio.entitlement.service.stage.DatabaseLoggingStage}, so they are stored within the same transaction
+ * as the stage status, and are sent to kafka later by {@link EventOutboxRelay}.
+ * </p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("application.kafka.outbox.enabled")
+public class EventOutbox {
+
+  private static final ThreadLocal<List<OutboxEventEntity>> PENDING_EVENTS = ThreadLocal.withInitial(ArrayList::new);
+
+  private final JsonConverter jsonConverter;
+  private final OutboxEventRepository outboxEventRepository;
+
+  /**
+   * Adds producer record to the events of the current stage.
+   *
+   * @param producerRecord - {@link ProducerRecord} with topic, key, value and headers
+   */
+  public void add(ProducerRecord<String, Object> producerRecord) {
+    var entity = new OutboxEventEntity();
+    entity.setTopic(producerRecord.topic());
+    entity.setMessageKey(producerRecord.key());
+    entity.setPayload(jsonConverter.toJson(producerRecord.value()));
+    entity.setHeaders(getHeaders(producerRecord.headers()));
+    PENDING_EVENTS.get().add(entity);
+  }
+
+  /**
+   * Checks if the current stage has events to store.
+   *
+   * @return true if events were added by the current stage, false otherwise
+   */
+  public boolean hasPendingEvents() {
+    return !PENDING_EVENTS.get().isEmpty();
+  }
+
+  /**
+   * Stores events of the current stage in the outbox table, must be called within the stage transaction.
+   */
+  public void store() {
+    var events = PENDING_EVENTS.get();
+    PENDING_EVENTS.remove();
+    if (!events.isEmpty()) {
+      outboxEventRepository.saveAll(events);
+      log.debug("Events stored in outbox: count = {}", events.size());
+    }
+  }
+
+  /**
+   * Discards events of the current stage.
+   */
+  public void discard() {
+    PENDING_EVENTS.remove();
+  }
+
+  private String getHeaders(Headers headers) {
+    var headersMap = new LinkedHashMap<String, String>();
+    for (var header : headers) {
+      headersMap.put(header.key(), new String(header.value(), UTF_8));
+    }
+
+    return headersMap.isEmpty() ? null : jsonConverter.toJson(headersMap);
+  }
+}
@@ -0,0 +1,100 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.folio.entitlement.domain.entity.OutboxEventEntity;
+import org.folio.entitlement.integration.IntegrationException;
+import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
+import org.folio.entitlement.repository.OutboxEventRepository;
+import org.folio.entitlement.utils.JsonConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Sends events stored in the outbox table to kafka.
+ *
+ * <p>
+ * Events are read in batches in the order they were stored, while a transaction-level advisory lock is held, so only
+ * one module instance relays events at a time and the order of events with the same key is preserved by the
+ * idempotent producer. Events are deleted only after all of them are acknowledged, otherwise the transaction is
+ * rolled back and the batch is sent again by the next run.
+ * </p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("application.kafka.outbox.enabled")
+public class EventOutboxRelay {
+
+  static final long OUTBOX_LOCK_ID = 7_139_455_271L;
+
+  private final JsonConverter jsonConverter;
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+  private final OutboxEventRepository outboxEventRepository;
+  private final TenantEntitlementKafkaProperties tenantEntitlementKafkaProperties;
+
+  /**
+   * Sends the next batch of stored events to kafka and removes them from the outbox table.
+   */
+  @Transactional
+  @Scheduled(fixedDelayString = "#{@tenantEntitlementKafkaProperties.outbox.relayInterval.toMillis()}")
+  public void relay() {
+    if (!outboxEventRepository.tryLock(OUTBOX_LOCK_ID)) {
+      return;
+    }
+
+    var events = outboxEventRepository.findBatch(tenantEntitlementKafkaProperties.getOutbox().getBatchSize());
+    if (events.isEmpty()) {
+      return;
+    }
+
+    var futures = new ArrayList<CompletableFuture<?>>(events.size());
+    for (var event : events) {
+      futures.add(kafkaTemplate.send(toProducerRecord(event)));
+    }
+
+    await(futures);
+    outboxEventRepository.deleteAllInBatch(events);
+    log.debug("Outbox events sent: count = {}", events.size());
+  }
+
+  private void await(List<CompletableFuture<?>> futures) {
+    var timeoutInMillis = tenantEntitlementKafkaProperties.getSendDurationTimeout().toMillis();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(timeoutInMillis, MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IntegrationException("Failed to send outbox events", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IntegrationException("Failed to send outbox events", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private ProducerRecord<String, Object> toProducerRecord(OutboxEventEntity event) {
+    var headers = new RecordHeaders();
+    var headersMap = (Map<String, String>) jsonConverter.fromJson(event.getHeaders(), Map.class);
+    if (headersMap != null) {
+      headersMap.forEach((name, value) -> headers.add(new RecordHeader(name, value.getBytes(UTF_8))));
+    }
+
+    var value = jsonConverter.fromJson(event.getPayload(), JsonNode.class);
+    return new ProducerRecord<>(event.getTopic(), null, event.getMessageKey(), value, headers);
+  }
+}
@@ -0,0 +1,27 @@
+package org.folio.entitlement.integration.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.folio.entitlement.domain.model.ApplicationStageContext;
+import org.folio.entitlement.service.stage.DatabaseLoggingStage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Awaits acknowledgments for the events that module stages of the application flow sent asynchronously.
+ *
+ * <p>
+ * Added to application flows only if asynchronous publishing is enabled.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty("application.kafka.async-publishing-enabled")
+@RequiredArgsConstructor
+public class KafkaEventFlusher extends DatabaseLoggingStage<ApplicationStageContext> {
+
+  private final KafkaEventPublisher kafkaEventPublisher;
+
+  @Override
+  public void execute(ApplicationStageContext context) {
+    kafkaEventPublisher.flush(context.getCurrentFlowId());
+  }
+}
@@ -1,23 +1,39 @@
 package org.folio.entitlement.integration.kafka;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.folio.entitlement.bulkhead.BulkheadRegistry.KAFKA;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.folio.common.domain.model.error.Parameter;
+import org.folio.entitlement.bulkhead.Bulkhead;
 import org.folio.entitlement.integration.IntegrationException;
 import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class KafkaEventPublisher {
 
   private final KafkaTemplate<String, Object> kafkaTemplate;
   private final TenantEntitlementKafkaProperties tenantEntitlementKafkaProperties;
+  private final Map<UUID, Queue<PendingEvent>> pendingEvents = new ConcurrentHashMap<>();
+  private EventOutbox eventOutbox;
 
   /**
    * Sends event using provided topic name, message key and message body.
@@ -26,10 +42,129 @@ public class KafkaEventPublisher {
    * @param body - event body as {@link Object}
    * @param key - message key as {@link String}
    */
+  @Bulkhead(KAFKA)
   public void send(String topic, String key, Object body) {
     var sendDurationTimeoutInMillis = tenantEntitlementKafkaProperties.getSendDurationTimeout().toMillis();
+    await(kafkaTemplate.send(topic, key, body), sendDurationTimeoutInMillis, topic, key);
+  }
+
+  /**
+   * Sends event as a part of application flow.
+   *
+   * <p>
+   * If the outbox is enabled, the event is stored in the outbox table together with the stage status and sent to
+   * kafka by {@link EventOutboxRelay}. If asynchronous publishing is enabled, the event is handed over to the producer
+   * without waiting for the broker acknowledgement, so the producer can batch events, and the result is awaited by
+   * {@link #flush(UUID)}. Otherwise, the event is sent in the same way as {@link #send(String, String, Object)} does.
+   * </p>
+   *
+   * @param applicationFlowId - application flow identifier
+   * @param topic - kafka topic name as {@link String}
+   * @param key - message key as {@link String}
+   * @param body - event body as {@link Object}
+   */
+  @Bulkhead(KAFKA)
+  public void send(UUID applicationFlowId, String topic, String key, Object body) {
+    var producerRecord = new ProducerRecord<String, Object>(topic, key, body);
+    sendInFlow(applicationFlowId, producerRecord, () -> kafkaTemplate.send(topic, key, body));
+  }
+
+  /**
+   * Sends prepared producer record as a part of application flow, in the same way as
+   * {@link #send(UUID, String, String, Object)} does.
+   *
+   * @param applicationFlowId - application flow identifier
+   * @param producerRecord - {@link ProducerRecord} with topic, key, value and headers
+   */
+  @Bulkhead(KAFKA)
+  public void send(UUID applicationFlowId, ProducerRecord<String, Object> producerRecord) {
+    sendInFlow(applicationFlowId, producerRecord, () -> kafkaTemplate.send(producerRecord));
+  }
+
+  /**
+   * Sends event on cancellation of application flow stage.
+   *
+   * <p>
+   * If the outbox is enabled, the event is stored in the outbox table together with the cancelled stage status, so
+   * it's sent after the events stored by the executed stages. Otherwise, the event is sent synchronously.
+   * </p>
+   *
+   * @param applicationFlowId - application flow identifier
+   * @param topic - kafka topic name as {@link String}
+   * @param key - message key as {@link String}
+   * @param body - event body as {@link Object}
+   */
+  @Bulkhead(KAFKA)
+  public void sendOnCancel(UUID applicationFlowId, String topic, String key, Object body) {
+    if (applicationFlowId != null && eventOutbox != null) {
+      eventOutbox.add(new ProducerRecord<>(topic, key, body));
+      return;
+    }
+
+    send(topic, key, body);
+  }
+
+  /**
+   * Awaits events sent asynchronously for the application flow.
+   *
+   * @param applicationFlowId - application flow identifier
+   * @throws IntegrationException if any of the events is not sent within the send duration timeout
+   */
+  public void flush(UUID applicationFlowId) {
+    var events = pendingEvents.remove(applicationFlowId);
+    if (events == null) {
+      return;
+    }
+
+    log.debug("Awaiting sent events: applicationFlowId = {}, events = {}", applicationFlowId, events.size());
+    var timeoutInNanos = tenantEntitlementKafkaProperties.getSendDurationTimeout().toNanos();
+    var deadline = System.nanoTime() + timeoutInNanos;
+    for (var event : events) {
+      var remainingTimeInMillis = NANOSECONDS.toMillis(Math.max(deadline - System.nanoTime(), 0));
+      await(event.future(), remainingTimeInMillis, event.topic(), event.key());
+    }
+  }
+
+  /**
+   * Discards events sent asynchronously for the application flow without awaiting them.
+   *
+   * @param applicationFlowId - application flow identifier
+   */
+  public void discard(UUID applicationFlowId) {
+    var events = pendingEvents.remove(applicationFlowId);
+    if (events != null) {
+      log.debug("Sent events discarded: applicationFlowId = {}, events = {}", applicationFlowId, events.size());
+    }
+  }
+
+  @Autowired(required = false)
+  public void setEventOutbox(EventOutbox eventOutbox) {
+    this.eventOutbox = eventOutbox;
+  }
+
+  private void sendInFlow(UUID applicationFlowId, ProducerRecord<String, Object> producerRecord,
+    Supplier<CompletableFuture<?>> sender) {
+    if (applicationFlowId != null && eventOutbox != null) {
+      eventOutbox.add(producerRecord);
+      return;
+    }
+
+    var topic = producerRecord.topic();
+    var key = producerRecord.key();
+    if (applicationFlowId == null || !tenantEntitlementKafkaProperties.isAsyncPublishingEnabled()) {
+      var sendDurationTimeoutInMillis = tenantEntitlementKafkaProperties.getSendDurationTimeout().toMillis();
+      await(sender.get(), sendDurationTimeoutInMillis, topic, key);
+      return;
+    }
+
+    var future = sender.get();
+    pendingEvents.computeIfAbsent(applicationFlowId, id -> new ConcurrentLinkedQueue<>())
+      .add(new PendingEvent(topic, key, future));
+  }
+
+  private static void await(CompletableFuture<?> future, long timeoutInMillis, String topic, String key) {
     try {
-      kafkaTemplate.send(topic, key, body).get(sendDurationTimeoutInMillis, MILLISECONDS);
+      future.get(timeoutInMillis, MILLISECONDS);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new IntegrationException("Failed to send event", getErrorParameters(topic, key), e);
@@ -41,4 +176,6 @@ public class KafkaEventPublisher {
   private static List<Parameter> getErrorParameters(String topic, String key) {
     return List.of(new Parameter().key("topic").value(topic), new Parameter().key("key").value(key));
   }
+
+  private record PendingEvent(String topic, String key, CompletableFuture<?> future) {}
 }
@@ -1,7 +1,6 @@
 package org.folio.entitlement.integration.kafka;
 
 import static java.lang.Boolean.TRUE;
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.folio.common.utils.CollectionUtils.mapItems;
@@ -11,16 +10,21 @@ import static org.folio.entitlement.domain.dto.EntitlementRequestType.STATE;
 import static org.folio.entitlement.integration.kafka.KafkaEventUtils.TOPIC_TENANT_COLLECTION_KEY;
 import static org.folio.integration.kafka.producer.KafkaUtils.getTenantTopicName;
 
-import java.util.ArrayList;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.folio.entitlement.domain.model.CommonStageContext;
 import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
 import org.folio.entitlement.service.stage.DatabaseLoggingStage;
 import org.folio.integration.kafka.producer.KafkaAdminService;
 import org.folio.integration.kafka.producer.KafkaProducerProperties.KafkaTopic;
 import org.folio.integration.kafka.producer.KafkaUtils;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -29,10 +33,22 @@ import org.springframework.stereotype.Component;
 public class KafkaTenantTopicCreator extends DatabaseLoggingStage<CommonStageContext> {
 
   private static final String PARAM_TOPICS_CREATED = "KafkaTenantTopicCreator.created";
+  private static final long EXISTING_TOPICS_CACHE_MAX_SIZE = 10_000;
+  private static final Duration EXISTING_TOPICS_CACHE_TTL = Duration.ofMinutes(10);
 
+  private final KafkaAdmin kafkaAdmin;
   private final KafkaAdminService kafkaAdminService;
   private final TenantEntitlementKafkaProperties tenantEntitlementKafkaProperties;
 
+  /**
+   * Names of the topics known to exist, so the topic metadata is not requested for each entitled tenant, especially
+   * when the tenant collection topics are shared by all tenants.
+   */
+  private final Cache<String, Boolean> existingTopics = Caffeine.newBuilder()
+    .maximumSize(EXISTING_TOPICS_CACHE_MAX_SIZE)
+    .expireAfterWrite(EXISTING_TOPICS_CACHE_TTL)
+    .build();
+
   @Override
   public void execute(CommonStageContext context) {
     if (isEntitleOrDesiredStateWithEntitle(context)) {
@@ -64,32 +80,38 @@ public class KafkaTenantTopicCreator extends DatabaseLoggingStage<CommonStageCon
 
   private List<String> createTopics(String topicTenantValue) {
     var tenantTopicsWithConfig = toStream(tenantEntitlementKafkaProperties.getTenantTopics())
-      .collect(toMap(topic -> getTenantTopicName(topic.getName(), topicTenantValue), identity()));
+      .map(topic -> Map.entry(getTenantTopicName(topic.getName(), topicTenantValue), topic))
+      .filter(topic -> existingTopics.getIfPresent(topic.getKey()) == null)
+      .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first));
+    if (tenantTopicsWithConfig.isEmpty()) {
+      return List.of();
+    }
 
     var existingTenantTopics = kafkaAdminService.findTopics(tenantTopicsWithConfig.keySet());
     log.debug("Existing tenant topics: topicNames = {}", existingTenantTopics);
 
-    var createdTopics = new ArrayList<String>();
-    tenantTopicsWithConfig.entrySet().stream()
+    var newTopics = tenantTopicsWithConfig.entrySet().stream()
       .filter(topic -> !existingTenantTopics.contains(topic.getKey()))
-      .forEach(topic -> {
-        createTopic(topic.getKey(), topic.getValue());
-        createdTopics.add(topic.getKey());
-      });
+      .map(topic -> createNewTopic(topic.getKey(), topic.getValue()))
+      .toArray(NewTopic[]::new);
+
+    if (newTopics.length > 0) {
+      kafkaAdmin.createOrModifyTopics(newTopics);
+    }
 
-    return createdTopics;
+    tenantTopicsWithConfig.keySet().forEach(topicName -> existingTopics.put(topicName, TRUE));
+    return mapItems(List.of(newTopics), NewTopic::name);
   }
 
-  private void createTopic(String topicName, KafkaTopic topicConfig) {
-    var createdTopic = KafkaUtils.createTopic(topicName, topicConfig.getNumPartitions(),
-      topicConfig.getReplicationFactor());
-    kafkaAdminService.createTopic(createdTopic);
+  private static NewTopic createNewTopic(String topicName, KafkaTopic topicConfig) {
+    return KafkaUtils.createTopic(topicName, topicConfig.getNumPartitions(), topicConfig.getReplicationFactor());
   }
 
   private void removeTenantTopics(String tenantName) {
     var tenantTopics = tenantEntitlementKafkaProperties.getTenantTopics();
     var topicsToPurge = mapItems(tenantTopics, topic -> getTenantTopicName(topic.getName(), tenantName));
     kafkaAdminService.deleteTopics(topicsToPurge);
+    existingTopics.invalidateAll(topicsToPurge);
   }
 
   private String getTopicTenantValue(String tenant) {
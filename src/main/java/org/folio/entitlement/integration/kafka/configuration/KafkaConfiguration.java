@@ -1,9 +1,11 @@
 package org.folio.entitlement.integration.kafka.configuration;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.kafka.autoconfigure.DefaultKafkaProducerFactoryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import tools.jackson.databind.json.JsonMapper;
 
 @Configuration
@@ -19,4 +21,12 @@ public class KafkaConfiguration {
   public DefaultKafkaProducerFactoryCustomizer customizeJsonSerializer(JsonMapper jsonMapper) {
     return factory -> factory.setValueSerializerSupplier(() -> new JacksonJsonSerializer<>(jsonMapper));
   }
+
+  /**
+   * Enables scheduled relay of the events stored in the outbox table.
+   */
+  @Configuration
+  @EnableScheduling
+  @ConditionalOnProperty("application.kafka.outbox.enabled")
+  public static class OutboxConfiguration {}
 }
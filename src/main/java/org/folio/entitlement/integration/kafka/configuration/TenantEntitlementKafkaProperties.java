@@ -7,6 +7,7 @@ import org.folio.integration.kafka.producer.KafkaProducerProperties.KafkaTopic;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Data
 @Component
@@ -19,4 +20,43 @@ public class TenantEntitlementKafkaProperties {
   private List<KafkaTopic> tenantTopics;
 
   private boolean producerTenantCollection;
+
+  private boolean asyncPublishingEnabled;
+
+  private CapabilityChunking capabilityChunking = new CapabilityChunking();
+
+  private Outbox outbox = new Outbox();
+
+  @Data
+  public static class CapabilityChunking {
+
+    /**
+     * Defines if capability events must be split into several messages when exceeding the max size.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum estimated size of a single capability event message.
+     */
+    private DataSize maxSize = DataSize.ofKilobytes(512);
+  }
+
+  @Data
+  public static class Outbox {
+
+    /**
+     * Defines if events of application flows must be stored in the outbox table and relayed to kafka asynchronously.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of events relayed to kafka in a single batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Delay between outbox relay runs.
+     */
+    private Duration relayInterval = Duration.ofSeconds(1);
+  }
 }
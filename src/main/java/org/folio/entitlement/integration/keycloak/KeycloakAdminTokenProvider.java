@@ -20,13 +20,13 @@ public class KeycloakAdminTokenProvider implements AdminTokenProvider {
   private final KeycloakCacheableService keycloakCacheableService;
 
   /**
-   * Retrieves a fresh access token from Keycloak using the provided user token.
+   * Retrieves a fresh access token of the admin client from Keycloak, the token is shared by all requests.
    *
-   * @param userToken the user token to authenticate the request
+   * @param userToken the user token of the request, not used to obtain the admin client token
    * @return a fresh access token from Keycloak
    */
   public String getToken(String userToken) {
     log.debug("Obtaining access token from Keycloak");
-    return keycloakCacheableService.getAccessToken(userToken).getToken();
+    return keycloakCacheableService.getAccessToken().getToken();
   }
 }
@@ -2,8 +2,9 @@ package org.folio.entitlement.integration.keycloak;
 
 import static org.folio.entitlement.configuration.cache.CacheConfiguration.ACCESS_TOKEN;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
+import org.folio.security.integration.keycloak.configuration.properties.KeycloakProperties;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.representations.AccessTokenResponse;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -12,14 +13,30 @@ import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
-@RequiredArgsConstructor
 @ConditionalOnProperty("application.keycloak.enabled")
 public class KeycloakCacheableService {
 
   private final Keycloak keycloak;
+  @Getter private final String adminClientId;
 
-  @Cacheable(cacheNames = ACCESS_TOKEN, key = "#userToken")
-  public AccessTokenResponse getAccessToken(String userToken) {
+  /**
+   * Injects beans from spring context.
+   *
+   * @param keycloak - keycloak admin client
+   * @param keycloakProperties - keycloak properties with the admin client configuration
+   */
+  public KeycloakCacheableService(Keycloak keycloak, KeycloakProperties keycloakProperties) {
+    this.keycloak = keycloak;
+    this.adminClientId = keycloakProperties.getAdmin().getClientId();
+  }
+
+  /**
+   * Provides access token of the admin client, the token is cached by the admin client id until it expires.
+   *
+   * @return {@link AccessTokenResponse} of the admin client
+   */
+  @Cacheable(cacheNames = ACCESS_TOKEN, key = "#root.target.adminClientId", sync = true)
+  public AccessTokenResponse getAccessToken() {
     return keycloak.tokenManager()
       .grantToken();
   }
@@ -5,14 +5,12 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.entitlement.domain.model.ModuleStageContext;
 import org.folio.entitlement.retry.annotations.KeycloakCallsRetryable;
 import org.folio.entitlement.service.stage.ModuleDatabaseLoggingStage;
-import org.keycloak.admin.client.Keycloak;
 
 @Log4j2
 @RequiredArgsConstructor
 @KeycloakCallsRetryable
 public class KeycloakModuleResourceCleaner extends ModuleDatabaseLoggingStage {
 
-  private final Keycloak keycloakClient;
   private final KeycloakService keycloakService;
 
   @Override
@@ -27,7 +25,6 @@ public class KeycloakModuleResourceCleaner extends ModuleDatabaseLoggingStage {
     }
 
     var tenantName = context.getTenantName();
-    keycloakClient.tokenManager().grantToken();
     keycloakService.removeAuthResources(moduleDescriptor, tenantName);
 
     threadLocalModuleStageContext.clear();
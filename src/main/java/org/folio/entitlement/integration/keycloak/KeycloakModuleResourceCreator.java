@@ -5,14 +5,12 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.entitlement.domain.model.ModuleStageContext;
 import org.folio.entitlement.retry.annotations.KeycloakCallsRetryable;
 import org.folio.entitlement.service.stage.ModuleDatabaseLoggingStage;
-import org.keycloak.admin.client.Keycloak;
 
 @Log4j2
 @RequiredArgsConstructor
 @KeycloakCallsRetryable
 public class KeycloakModuleResourceCreator extends ModuleDatabaseLoggingStage {
 
-  private final Keycloak keycloakClient;
   private final KeycloakService keycloakService;
 
   @Override
@@ -20,8 +18,7 @@ public class KeycloakModuleResourceCreator extends ModuleDatabaseLoggingStage {
     threadLocalModuleStageContext.set(context);
 
     var realm = context.getTenantName();
-    keycloakClient.tokenManager().grantToken();
-    keycloakService.updateAuthResources(null, context.getModuleDescriptor(), realm);
+    keycloakService.updateAuthResources(null, context.getModuleDescriptor(), realm, context.getCurrentFlowId());
   }
 
   @Override
@@ -34,7 +31,6 @@ public class KeycloakModuleResourceCreator extends ModuleDatabaseLoggingStage {
     }
 
     var tenantName = context.getTenantName();
-    keycloakClient.tokenManager().grantToken();
     keycloakService.removeAuthResources(moduleDescriptor, tenantName);
 
     threadLocalModuleStageContext.clear();
@@ -6,13 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.folio.entitlement.domain.model.ModuleStageContext;
 import org.folio.entitlement.retry.annotations.KeycloakCallsRetryable;
 import org.folio.entitlement.service.stage.ModuleDatabaseLoggingStage;
-import org.keycloak.admin.client.Keycloak;
 
 @RequiredArgsConstructor
 @KeycloakCallsRetryable
 public class KeycloakModuleResourceUpdater extends ModuleDatabaseLoggingStage {
 
-  private final Keycloak keycloakClient;
   private final KeycloakService keycloakService;
 
   @Override
@@ -24,8 +22,8 @@ public class KeycloakModuleResourceUpdater extends ModuleDatabaseLoggingStage {
     var entitledModuleDescriptor = context.getInstalledModuleDescriptor();
 
     if (isModuleUpdated(moduleDescriptor, entitledModuleDescriptor)) {
-      keycloakClient.tokenManager().grantToken();
-      keycloakService.updateAuthResources(entitledModuleDescriptor, moduleDescriptor, tenantName);
+      keycloakService.updateAuthResources(entitledModuleDescriptor, moduleDescriptor, tenantName,
+        context.getCurrentFlowId());
     }
 
     threadLocalModuleStageContext.clear();
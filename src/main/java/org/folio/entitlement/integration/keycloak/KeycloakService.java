@@ -2,6 +2,7 @@ package org.folio.entitlement.integration.keycloak;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toMap;
@@ -10,64 +11,187 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
 import static org.apache.http.HttpStatus.SC_CONFLICT;
 import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.folio.common.utils.Collectors.toLinkedHashMap;
 import static org.folio.entitlement.utils.EntitlementServiceUtils.filterAndMap;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.extern.log4j.Log4j2;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.error.Parameter;
+import org.folio.entitlement.domain.model.ModuleStageContext;
 import org.folio.entitlement.integration.IntegrationException;
 import org.folio.entitlement.integration.keycloak.configuration.properties.KeycloakConfigurationProperties;
 import org.folio.entitlement.retry.keycloak.KeycloakRetrySupportService;
+import org.folio.entitlement.service.stage.ThreadLocalModuleStageContext;
 import org.folio.security.integration.keycloak.service.KeycloakModuleDescriptorMapper;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.AuthorizationResource;
 import org.keycloak.representations.idm.authorization.ResourceRepresentation;
+import org.keycloak.representations.idm.authorization.ResourceServerRepresentation;
 import org.keycloak.representations.idm.authorization.ScopeRepresentation;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 
 @Log4j2
-@RequiredArgsConstructor
 public class KeycloakService {
 
+  private static final long LOGIN_CLIENT_CACHE_MAX_SIZE = 1000;
+  private static final Duration LOGIN_CLIENT_CACHE_TTL = Duration.ofMinutes(30);
+  private static final int RESOURCE_PAGE_SIZE = 500;
+  private static final long MODULE_RESOURCES_CACHE_MAX_SIZE = 500;
+  private static final long RESOURCE_SNAPSHOT_CACHE_MAX_SIZE = 100;
+  private static final Duration RESOURCE_SNAPSHOT_CACHE_TTL = Duration.ofMinutes(10);
+  private static final ThreadFactory RESOURCE_THREAD_FACTORY =
+    Thread.ofVirtual().name("keycloak-resource-", 0).factory();
+
   private final Keycloak keycloakClient;
   private final KeycloakModuleDescriptorMapper moduleDescriptorMapper;
   private final KeycloakConfigurationProperties properties;
   private final KeycloakRetrySupportService retrySupport;
+  private final int resourceParallelism;
+  private final Cache<String, LoginClient> loginClients;
+  private final Cache<String, Map<String, String>> authorizationScopeIds;
+  private final Cache<String, List<ResourceRepresentation>> moduleResources;
+  private final Cache<ResourceSnapshotKey, Map<String, ResourceRepresentation>> resourceSnapshots;
+  private ThreadLocalModuleStageContext moduleStageContext;
+
+  /**
+   * Creates {@link KeycloakService} object.
+   *
+   * @param keycloakClient - Keycloak admin client
+   * @param moduleDescriptorMapper - module descriptor to Keycloak mappings mapper
+   * @param properties - Keycloak configuration properties
+   * @param retrySupport - Keycloak retry support service
+   */
+  public KeycloakService(Keycloak keycloakClient, KeycloakModuleDescriptorMapper moduleDescriptorMapper,
+    KeycloakConfigurationProperties properties, KeycloakRetrySupportService retrySupport) {
+    this.keycloakClient = keycloakClient;
+    this.moduleDescriptorMapper = moduleDescriptorMapper;
+    this.properties = properties;
+    this.retrySupport = retrySupport;
+    this.resourceParallelism = properties.getResourceParallelism();
+    this.loginClients = Caffeine.newBuilder()
+      .maximumSize(LOGIN_CLIENT_CACHE_MAX_SIZE)
+      .expireAfterAccess(LOGIN_CLIENT_CACHE_TTL)
+      .build();
+    this.authorizationScopeIds = Caffeine.newBuilder()
+      .maximumSize(LOGIN_CLIENT_CACHE_MAX_SIZE)
+      .expireAfterAccess(LOGIN_CLIENT_CACHE_TTL)
+      .build();
+    this.moduleResources = Caffeine.newBuilder()
+      .maximumSize(MODULE_RESOURCES_CACHE_MAX_SIZE)
+      .build();
+    this.resourceSnapshots = Caffeine.newBuilder()
+      .maximumSize(RESOURCE_SNAPSHOT_CACHE_MAX_SIZE)
+      .expireAfterAccess(RESOURCE_SNAPSHOT_CACHE_TTL)
+      .build();
+  }
+
+  /**
+   * Sets {@link ThreadLocalModuleStageContext} to propagate module stage context to parallel resource calls.
+   *
+   * @param moduleStageContext - thread local module stage context
+   */
+  @Autowired(required = false)
+  public void setModuleStageContext(ThreadLocalModuleStageContext moduleStageContext) {
+    this.moduleStageContext = moduleStageContext;
+  }
 
   /**
    * Registers authorization resources and scopes in Keycloak.
    *
+   * <p>
+   * If resource reconciliation is enabled, the snapshot of the realm's existing resources is loaded once per
+   * application flow and shared by its module stages.
+   * </p>
+   *
    * @param prevDescriptor - previous module descriptor (if upgrade), nullable
    * @param newDescriptor - new module descriptor, must be not-null
    * @param realm - Keycloak realm name
+   * @param applicationFlowId - application flow identifier, nullable, the snapshot is not shared if it is null
    */
-  public void updateAuthResources(ModuleDescriptor prevDescriptor, ModuleDescriptor newDescriptor, String realm) {
-    var authResourceClient = getAuthorizationClient(realm);
-    var scopeErrorParameters = createScopes(authResourceClient);
-    if (isNotEmpty(scopeErrorParameters)) {
-      throw new IntegrationException("Failed to update authorization scopes in Keycloak", scopeErrorParameters);
+  public void updateAuthResources(ModuleDescriptor prevDescriptor, ModuleDescriptor newDescriptor, String realm,
+    UUID applicationFlowId) {
+    var reconcile = properties.isResourceReconciliationEnabled();
+    withAuthorizationClient(realm, client -> updateAuthResources(prevDescriptor, newDescriptor, client,
+      reconcile ? new ResourceSnapshotKey(client.id(), applicationFlowId) : null));
+  }
+
+  /**
+   * Removes authorization resources from Keycloak.
+   *
+   * @param moduleDescriptor - previous module descriptor (if upgrade), nullable
+   * @param realmName - Keycloak realm name
+   */
+  public void removeAuthResources(ModuleDescriptor moduleDescriptor, String realmName) {
+    withAuthorizationClient(realmName, client -> removeAuthResources(moduleDescriptor, client));
+  }
+
+  /**
+   * Evicts cached login client, authorization resource client and authorization scopes for the given realm.
+   *
+   * @param realmName - Keycloak realm name
+   */
+  public void evictAuthorizationClient(String realmName) {
+    var loginClient = loginClients.getIfPresent(realmName);
+    if (loginClient != null) {
+      evictLoginClient(realmName, loginClient);
     }
+  }
 
-    KeycloakUtils.addPubSubResources(newDescriptor);
+  private void updateAuthResources(ModuleDescriptor prevDescriptor, ModuleDescriptor newDescriptor,
+    LoginClient loginClient, ResourceSnapshotKey snapshotKey) {
+    var authResourceClient = loginClient.authorizationResource();
+    var scopes = getAuthorizationScopeIds(loginClient);
 
     var newAuthResources = getAuthorizationResources(newDescriptor);
     var prevAuthResources = getAuthorizationResources(prevDescriptor);
 
+    var resourceErrorParameters = snapshotKey != null
+      ? reconcileResources(authResourceClient, newAuthResources, prevAuthResources, scopes, snapshotKey)
+      : updateResources(authResourceClient, newAuthResources, prevAuthResources, scopes);
+
+    if (isNotEmpty(resourceErrorParameters)) {
+      throw new IntegrationException("Failed to update authorization resources in Keycloak", resourceErrorParameters);
+    }
+  }
+
+  /**
+   * Creates resources that are changed comparing to the previous module descriptor and removes deprecated ones,
+   * existing Keycloak state is not checked, conflicts are resolved on creation.
+   */
+  private List<Parameter> updateResources(AuthorizationResource client,
+    Map<String, ResourceRepresentation> newAuthResources, Map<String, ResourceRepresentation> prevAuthResources,
+    Map<String, String> scopes) {
     var newResources = filterAndMap(newAuthResources.entrySet(),
       not(entry -> resourceAlreadyExists(entry.getKey(), entry.getValue(), prevAuthResources)),
       Entry::getValue);
@@ -76,24 +200,91 @@ public class KeycloakService {
       not(newAuthResources::containsKey), prevAuthResources::get);
 
     var resourceErrorParameters = new ArrayList<Parameter>();
-    resourceErrorParameters.addAll(createResources(authResourceClient, newResources));
-    resourceErrorParameters.addAll(removeResources(authResourceClient, deprecatedResources));
+    resourceErrorParameters.addAll(importResources(client, newResources, scopes));
+    resourceErrorParameters.addAll(removeResources(client, deprecatedResources));
+    return resourceErrorParameters;
+  }
 
-    if (isNotEmpty(resourceErrorParameters)) {
-      throw new IntegrationException("Failed to update authorization resources in Keycloak", resourceErrorParameters);
+  /**
+   * Compares module resources with a snapshot of the existing realm resources and issues only the calls required:
+   * missing or changed resources are imported, deprecated resources that still exist are removed.
+   *
+   * <p>
+   * The snapshot is loaded once per login client and application flow, then kept up to date with the changes made
+   * by the module stages of the flow. If any of the changes fails, the snapshot is evicted and loaded again by the
+   * next module stage or retry.
+   * </p>
+   */
+  private List<Parameter> reconcileResources(AuthorizationResource client,
+    Map<String, ResourceRepresentation> newAuthResources, Map<String, ResourceRepresentation> prevAuthResources,
+    Map<String, String> scopes, ResourceSnapshotKey snapshotKey) {
+    var existingResources = getExistingResources(client, snapshotKey);
+    var changedResources = filterAndMap(newAuthResources.entrySet(),
+      not(entry -> resourceAlreadyExists(entry.getKey(), entry.getValue(), existingResources)),
+      Entry::getValue);
+
+    var deprecatedResources = filterAndMap(prevAuthResources.keySet(),
+      name -> !newAuthResources.containsKey(name) && existingResources.containsKey(name), existingResources::get);
+
+    log.debug("Keycloak resources reconciled: existing = {}, changed = {}, deprecated = {}",
+      existingResources.size(), changedResources.size(), deprecatedResources.size());
+
+    var resourceErrorParameters = new ArrayList<Parameter>();
+    resourceErrorParameters.addAll(importResources(client, changedResources, scopes));
+    resourceErrorParameters.addAll(collectResourceErrors(deprecatedResources,
+      resource -> removeExistingResource(client, resource)));
+
+    if (resourceErrorParameters.isEmpty()) {
+      changedResources.forEach(resource -> existingResources.put(resource.getName(), resource));
+      deprecatedResources.forEach(resource -> existingResources.remove(resource.getName()));
+    } else {
+      resourceSnapshots.invalidate(snapshotKey);
     }
+
+    return resourceErrorParameters;
   }
 
   /**
-   * Removes authorization resources from Keycloak.
-   *
-   * @param moduleDescriptor - previous module descriptor (if upgrade), nullable
-   * @param realmName - Keycloak realm name
+   * Returns the snapshot of the realm's existing resources by name, the snapshot is shared only if the application
+   * flow identifier is known.
    */
-  public void removeAuthResources(ModuleDescriptor moduleDescriptor, String realmName) {
-    var authResourceClient = getAuthorizationClient(realmName);
-    var mappings = moduleDescriptorMapper.map(moduleDescriptor, true);
-    var resources = mappings.getResourceServer().getResources();
+  private Map<String, ResourceRepresentation> getExistingResources(AuthorizationResource client,
+    ResourceSnapshotKey snapshotKey) {
+    return snapshotKey.applicationFlowId() == null
+      ? loadExistingResources(client)
+      : resourceSnapshots.get(snapshotKey, key -> loadExistingResources(client));
+  }
+
+  private Map<String, ResourceRepresentation> loadExistingResources(AuthorizationResource client) {
+    var result = new ConcurrentHashMap<String, ResourceRepresentation>();
+    var first = 0;
+    var pageSize = RESOURCE_PAGE_SIZE;
+    while (pageSize == RESOURCE_PAGE_SIZE) {
+      var offset = first;
+      var page = retrySupport.callWithRetry(
+        () -> client.resources().find(null, null, null, null, null, offset, RESOURCE_PAGE_SIZE));
+      page.forEach(resource -> result.putIfAbsent(resource.getName(), resource));
+      pageSize = page.size();
+      first += pageSize;
+    }
+
+    log.debug("Keycloak resources snapshot loaded: count = {}", result.size());
+    return result;
+  }
+
+  /**
+   * Removes resource from the snapshot by identifier, resources imported within the flow have no identifier in the
+   * snapshot, so they are looked up by name.
+   */
+  private Optional<Parameter> removeExistingResource(AuthorizationResource client, ResourceRepresentation resource) {
+    return resource.getId() != null
+      ? removeResourceById(client, resource.getId(), resource.getName())
+      : removeResourceIfExist(client, resource);
+  }
+
+  private void removeAuthResources(ModuleDescriptor moduleDescriptor, LoginClient loginClient) {
+    var authResourceClient = loginClient.authorizationResource();
+    var resources = getModuleResources(moduleDescriptor);
 
     var removeResourcesErrors = removeResources(authResourceClient, resources);
     if (isNotEmpty(removeResourcesErrors)) {
@@ -116,34 +307,141 @@ public class KeycloakService {
       return emptyMap();
     }
 
-    var mappings = moduleDescriptorMapper.map(moduleDescriptor, true);
-    var resources = mappings.getResourceServer().getResources();
-    return groupResourcesByName(resources);
+    return groupResourcesByName(getModuleResources(moduleDescriptor));
+  }
+
+  /**
+   * Returns authorization resources mapped from the module descriptor.
+   *
+   * <p>
+   * Module descriptors are immutable per module id, so mapped resources are cached by module id and shared between
+   * tenants. Pubsub event handlers are added to a copy of mod-pubsub descriptor before mapping, so entitle, upgrade and
+   * revoke operations get the same resources regardless of which of them populates the cache. Resources are returned
+   * as copies, because they are modified before sending to Keycloak.
+   * </p>
+   *
+   * @param moduleDescriptor - module descriptor
+   * @return list with copies of mapped authorization resources
+   */
+  private List<ResourceRepresentation> getModuleResources(ModuleDescriptor moduleDescriptor) {
+    var moduleId = moduleDescriptor.getId();
+    var resources = moduleId == null
+      ? mapModuleResources(moduleDescriptor)
+      : moduleResources.get(moduleId, id -> mapModuleResources(moduleDescriptor));
+    return mapItems(resources, KeycloakService::copyResource);
+  }
+
+  private List<ResourceRepresentation> mapModuleResources(ModuleDescriptor moduleDescriptor) {
+    var mappings = moduleDescriptorMapper.map(KeycloakUtils.withPubSubResources(moduleDescriptor), true);
+    return List.copyOf(toStream(mappings.getResourceServer().getResources()).toList());
+  }
+
+  private static ResourceRepresentation copyResource(ResourceRepresentation resource) {
+    var copy = new ResourceRepresentation();
+    copy.setId(resource.getId());
+    copy.setName(resource.getName());
+    copy.setDisplayName(resource.getDisplayName());
+    copy.setType(resource.getType());
+    copy.setUris(resource.getUris() != null ? new HashSet<>(resource.getUris()) : null);
+    copy.setOwnerManagedAccess(resource.getOwnerManagedAccess());
+    copy.setAttributes(resource.getAttributes() != null ? new HashMap<>(resource.getAttributes()) : null);
+    copy.setScopes(toStream(resource.getScopes()).map(KeycloakService::copyScope).collect(toSet()));
+    return copy;
+  }
+
+  private static ScopeRepresentation copyScope(ScopeRepresentation scope) {
+    var copy = new ScopeRepresentation(scope.getName());
+    copy.setId(scope.getId());
+    return copy;
   }
 
   private static Map<String, ResourceRepresentation> groupResourcesByName(List<ResourceRepresentation> resources) {
     return resources.stream().collect(toLinkedHashMap(ResourceRepresentation::getName));
   }
 
-  private AuthorizationResource getAuthorizationClient(String realmName) {
+  /**
+   * Performs an action using the cached authorization resource client of the realm's login client.
+   *
+   * <p>
+   * If Keycloak responds with {@code 404 Not Found} (e.g. the realm has been re-created), the cached client is
+   * evicted and the action is performed once again with the freshly resolved login client.
+   * </p>
+   */
+  private void withAuthorizationClient(String realmName, Consumer<LoginClient> action) {
+    var cachedLoginClient = loginClients.getIfPresent(realmName);
+    if (cachedLoginClient != null) {
+      try {
+        action.accept(cachedLoginClient);
+        return;
+      } catch (NotFoundException exception) {
+        log.info("Cached Keycloak login client is not found, evicting it: realm = {}, clientId = {}",
+          realmName, cachedLoginClient.id());
+        evictLoginClient(realmName, cachedLoginClient);
+      }
+    }
+
+    var loginClient = loginClients.get(realmName, this::findLoginClient);
+    try {
+      action.accept(loginClient);
+    } catch (NotFoundException exception) {
+      evictLoginClient(realmName, loginClient);
+      throw exception;
+    }
+  }
+
+  private LoginClient findLoginClient(String realmName) {
     var name = realmName + properties.getLogin().getClientNameSuffix();
-    var loginClients =
-      retrySupport.callWithRetry(() -> keycloakClient.realm(realmName).clients().findByClientId(name));
-    var loginClientId = loginClients.stream()
+    var clients = retrySupport.callWithRetry(() -> keycloakClient.realm(realmName).clients().findByClientId(name));
+    var loginClientId = clients.stream()
       .filter(cl -> cl.getClientId().equals(name))
       .findFirst()
       .orElseThrow(() -> new EntityNotFoundException("Client for login operations was not found by name: " + name))
       .getId();
 
-    return getAuthorizationResourceClient(loginClientId, realmName);
+    log.debug("Keycloak login client resolved: realm = {}, clientId = {}", realmName, loginClientId);
+    return new LoginClient(loginClientId, getAuthorizationResourceClient(loginClientId, realmName));
   }
 
-  private List<Parameter> createScopes(AuthorizationResource client) {
-    var existingScopes = getAuthorizationScopes(client);
+  private void evictLoginClient(String realmName, LoginClient loginClient) {
+    loginClients.asMap().remove(realmName, loginClient);
+    authorizationScopeIds.invalidate(loginClient.id());
+  }
 
-    return stream(HttpMethod.values())
+  /**
+   * Returns authorization scope ids by name for the login client.
+   *
+   * <p>
+   * Scopes (HTTP method names) are listed and created once per login client, then the scope ids are reused by all
+   * module stages of the realm. Concurrent creation of the same scope is tolerated by ignoring {@code 409 Conflict}.
+   * </p>
+   */
+  private Map<String, String> getAuthorizationScopeIds(LoginClient loginClient) {
+    return authorizationScopeIds.get(loginClient.id(), id -> loadAuthorizationScopes(loginClient));
+  }
+
+  private Map<String, String> loadAuthorizationScopes(LoginClient loginClient) {
+    var client = loginClient.authorizationResource();
+    var existingScopes = getAuthorizationScopes(client);
+    var missingScopes = stream(HttpMethod.values())
       .map(HttpMethod::name)
       .filter(method -> !existingScopes.containsKey(method))
+      .toList();
+
+    if (missingScopes.isEmpty()) {
+      return existingScopes;
+    }
+
+    var scopeErrorParameters = createScopes(client, missingScopes);
+    if (isNotEmpty(scopeErrorParameters)) {
+      throw new IntegrationException("Failed to update authorization scopes in Keycloak", scopeErrorParameters);
+    }
+
+    log.debug("Keycloak authorization scopes created: clientId = {}, scopes = {}", loginClient.id(), missingScopes);
+    return getAuthorizationScopes(client);
+  }
+
+  private List<Parameter> createScopes(AuthorizationResource client, List<String> scopeNames) {
+    return scopeNames.stream()
       .map(KeycloakService::mapToScopeRepresentation)
       .map(scopeRepresentation -> createScopeIgnoreConflict(client, scopeRepresentation))
       .flatMap(Optional::stream)
@@ -178,15 +476,50 @@ public class KeycloakService {
     return Optional.empty();
   }
 
-  private List<Parameter> createResources(AuthorizationResource client,
-    Collection<ResourceRepresentation> resources) {
-    var scopes = getAuthorizationScopes(client);
+  /**
+   * Creates or updates authorization resources with a single resource-server import request.
+   *
+   * <p>
+   * Keycloak import matches resources by name, so the existing resources get their scopes replaced, the same way
+   * as {@link #createResourceSafe(AuthorizationResource, ResourceRepresentation)} does after {@code 409 Conflict}.
+   * Resource server settings are read before the import and sent back unchanged, because import overwrites them.
+   * If the import fails, resources are created one by one to collect per-resource errors.
+   * </p>
+   */
+  private List<Parameter> importResources(AuthorizationResource client,
+    Collection<ResourceRepresentation> resources, Map<String, String> scopes) {
+    if (resources.isEmpty()) {
+      return emptyList();
+    }
 
-    return resources.stream()
-      .map(resourceRepresentation -> withScopeIds(resourceRepresentation, scopes))
-      .map(resource -> createResourceSafe(client, resource))
-      .flatMap(Optional::stream)
-      .toList();
+    try {
+      var settings = retrySupport.callWithRetry(client::getSettings);
+      var resourceServer = toResourceServerImport(settings, resources, scopes);
+      retrySupport.runWithRetry(() -> client.importSettings(resourceServer));
+      log.debug("Authorization resources imported: count = {}", resources.size());
+      return emptyList();
+    } catch (Exception exception) {
+      log.warn("Failed to import Keycloak resources, creating them one by one: count = {}, cause = {}, "
+        + "causeMessage = {}", resources.size(), exception.getClass().getSimpleName(), exception.getMessage());
+      return createResources(client, resources, scopes);
+    }
+  }
+
+  private static ResourceServerRepresentation toResourceServerImport(ResourceServerRepresentation settings,
+    Collection<ResourceRepresentation> resources, Map<String, String> scopes) {
+    var resourceServer = new ResourceServerRepresentation();
+    resourceServer.setPolicyEnforcementMode(settings.getPolicyEnforcementMode());
+    resourceServer.setDecisionStrategy(settings.getDecisionStrategy());
+    resourceServer.setAllowRemoteResourceManagement(settings.isAllowRemoteResourceManagement());
+    resourceServer.setScopes(emptyList());
+    resourceServer.setPolicies(emptyList());
+    resourceServer.setResources(mapItems(resources, resource -> withScopeIds(resource, scopes)));
+    return resourceServer;
+  }
+
+  private List<Parameter> createResources(AuthorizationResource client,
+    Collection<ResourceRepresentation> resources, Map<String, String> scopes) {
+    return collectResourceErrors(resources, resource -> createResourceSafe(client, withScopeIds(resource, scopes)));
   }
 
   private Map<String, String> getAuthorizationScopes(AuthorizationResource authResourceClient) {
@@ -203,6 +536,10 @@ public class KeycloakService {
         return updateResource(client, resource);
       }
 
+      if (status == SC_NOT_FOUND) {
+        throw new NotFoundException("Authorization resource server is not found, failed to create resource: " + name);
+      }
+
       if (status >= SC_BAD_REQUEST) {
         var statusInfo = response.getStatusInfo();
         log.warn("Failed to create Keycloak resource: name = {}, status = {}, info = {}", name, status, statusInfo);
@@ -211,6 +548,8 @@ public class KeycloakService {
       }
 
       log.debug("Resource was created with name: #{}", name);
+    } catch (NotFoundException exception) {
+      throw exception;
     } catch (Exception exception) {
       log.warn("Failed to create Keycloak resource: name = {}, cause = {}, causeMessage = {}",
         name, exception.getClass().getSimpleName(), exception.getMessage());
@@ -252,10 +591,81 @@ public class KeycloakService {
 
   private List<Parameter> removeResources(AuthorizationResource authResourceClient,
     List<ResourceRepresentation> resources) {
-    return resources.stream()
-      .map(resource -> removeResourceIfExist(authResourceClient, resource))
-      .flatMap(Optional::stream)
-      .toList();
+    return collectResourceErrors(resources, resource -> removeResourceIfExist(authResourceClient, resource));
+  }
+
+  /**
+   * Applies the given action to each resource and collects resource errors in the order of resources.
+   *
+   * <p>
+   * If resource parallelism is greater than 1, the action is applied by a virtual thread per resource, and at most
+   * resource parallelism calls are performed at once. Each call is still performed via
+   * {@link KeycloakRetrySupportService} and limited by the Keycloak bulkhead.
+   * </p>
+   */
+  private List<Parameter> collectResourceErrors(Collection<ResourceRepresentation> resources,
+    Function<ResourceRepresentation, Optional<Parameter>> action) {
+    var parallelism = Math.min(resourceParallelism, resources.size());
+    if (parallelism <= 1) {
+      return resources.stream().map(action).flatMap(Optional::stream).toList();
+    }
+
+    var stageContext = moduleStageContext != null ? moduleStageContext.get() : null;
+    var permits = new Semaphore(parallelism);
+    try (var executor = Executors.newThreadPerTaskExecutor(RESOURCE_THREAD_FACTORY)) {
+      var futures = new ArrayList<Future<Optional<Parameter>>>(resources.size());
+      for (var resource : resources) {
+        futures.add(executor.submit(() -> applyWithPermit(permits, stageContext, () -> action.apply(resource))));
+      }
+
+      return awaitResourceErrors(futures);
+    }
+  }
+
+  private Optional<Parameter> applyWithPermit(Semaphore permits, ModuleStageContext stageContext,
+    Supplier<Optional<Parameter>> action) throws InterruptedException {
+    permits.acquire();
+    try {
+      return applyInStageContext(stageContext, action);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private Optional<Parameter> applyInStageContext(ModuleStageContext stageContext,
+    Supplier<Optional<Parameter>> action) {
+    if (stageContext == null) {
+      return action.get();
+    }
+
+    moduleStageContext.set(stageContext);
+    try {
+      return action.get();
+    } finally {
+      moduleStageContext.clear();
+    }
+  }
+
+  private static List<Parameter> awaitResourceErrors(List<Future<Optional<Parameter>>> futures) {
+    var result = new ArrayList<Parameter>();
+    try {
+      for (var future : futures) {
+        future.get().ifPresent(result::add);
+      }
+    } catch (InterruptedException exception) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IntegrationException("Interrupted while processing authorization resources", exception);
+    } catch (ExecutionException exception) {
+      futures.forEach(future -> future.cancel(true));
+      if (exception.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+
+      throw new IntegrationException("Failed to process authorization resources", exception.getCause());
+    }
+
+    return result;
   }
 
   private Optional<Parameter> removeResourceIfExist(AuthorizationResource client,
@@ -264,24 +674,40 @@ public class KeycloakService {
     try {
       var existingResource = findResourceByName(client, resourceName);
       if (existingResource.isPresent()) {
-        var id = existingResource.get().getId();
-        log.debug("Keycloak resource removed: id = {}, name = {}", id, resourceName);
-        retrySupport.runWithRetry(() -> client.resources().resource(id).remove());
+        return removeResourceById(client, existingResource.get().getId(), resourceName);
       }
     } catch (WebApplicationException exception) {
-      var response = exception.getResponse();
-      if (response.getStatus() != SC_NOT_FOUND) {
-        log.warn("Failed to delete Keycloak resource: name = {}, status = {}, info = {}, causeMessage = {}",
-          resourceName, response.getStatus(), response.getStatusInfo(), exception.getMessage());
-        var value = format("Failed to delete resource: %s (status: %s, causeMessage: %s)",
-          resourceName, response.getStatusInfo(), exception.getMessage());
-        return Optional.of(getResourceError(value));
-      }
+      return handleRemoveResourceError(resourceName, exception);
     }
 
     return Optional.empty();
   }
 
+  private Optional<Parameter> removeResourceById(AuthorizationResource client, String id, String resourceName) {
+    try {
+      log.debug("Keycloak resource removed: id = {}, name = {}", id, resourceName);
+      retrySupport.runWithRetry(() -> client.resources().resource(id).remove());
+    } catch (WebApplicationException exception) {
+      return handleRemoveResourceError(resourceName, exception);
+    }
+
+    return Optional.empty();
+  }
+
+  private static Optional<Parameter> handleRemoveResourceError(String resourceName,
+    WebApplicationException exception) {
+    var response = exception.getResponse();
+    if (response.getStatus() == SC_NOT_FOUND) {
+      return Optional.empty();
+    }
+
+    log.warn("Failed to delete Keycloak resource: name = {}, status = {}, info = {}, causeMessage = {}",
+      resourceName, response.getStatus(), response.getStatusInfo(), exception.getMessage());
+    var value = format("Failed to delete resource: %s (status: %s, causeMessage: %s)",
+      resourceName, response.getStatusInfo(), exception.getMessage());
+    return Optional.of(getResourceError(value));
+  }
+
   private Optional<ResourceRepresentation> findResourceByName(AuthorizationResource client, String name) {
     var searchResourcesResult = retrySupport.callWithRetry(() -> client.resources().findByName(name));
     return filterByExactName(searchResourcesResult, name);
@@ -335,4 +761,8 @@ public class KeycloakService {
     }
     return response;
   }
+
+  private record LoginClient(String id, AuthorizationResource authorizationResource) {}
+
+  private record ResourceSnapshotKey(String loginClientId, UUID applicationFlowId) {}
 }
@@ -11,13 +11,16 @@ import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.RoutingEntry;
 import org.folio.entitlement.integration.kafka.KafkaEventUtils;
 import org.folio.entitlement.integration.kafka.model.PermissionMappingValue;
+import tools.jackson.databind.json.JsonMapper;
 
 @Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class KeycloakUtils {
 
+  private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
   public static void addPubSubResources(ModuleDescriptor newDescriptor) {
-    if (newDescriptor != null && newDescriptor.getId() != null && newDescriptor.getId().startsWith("mod-pubsub")) {
+    if (isPubSubModule(newDescriptor)) {
       InterfaceDescriptor interfaceDescriptor = new InterfaceDescriptor();
       interfaceDescriptor.setId("pubsub-event-handlers");
       interfaceDescriptor.setVersion("1.1");
@@ -35,4 +38,29 @@ public class KeycloakUtils {
       newDescriptor.getProvides().add(interfaceDescriptor);
     }
   }
+
+  /**
+   * Returns a copy of mod-pubsub module descriptor with pubsub event handlers added, the given descriptor is not
+   * modified. Descriptors of other modules are returned as is.
+   *
+   * @param moduleDescriptor - module descriptor
+   * @return module descriptor to map authorization resources from
+   */
+  public static ModuleDescriptor withPubSubResources(ModuleDescriptor moduleDescriptor) {
+    if (!isPubSubModule(moduleDescriptor)) {
+      return moduleDescriptor;
+    }
+
+    var copy = JSON_MAPPER.readValue(JSON_MAPPER.writeValueAsString(moduleDescriptor), ModuleDescriptor.class);
+    if (copy.getProvides() == null) {
+      copy.setProvides(new ArrayList<>());
+    }
+
+    addPubSubResources(copy);
+    return copy;
+  }
+
+  private static boolean isPubSubModule(ModuleDescriptor descriptor) {
+    return descriptor != null && descriptor.getId() != null && descriptor.getId().startsWith("mod-pubsub");
+  }
 }
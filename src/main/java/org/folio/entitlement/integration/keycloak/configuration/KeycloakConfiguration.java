@@ -54,18 +54,18 @@ public class KeycloakConfiguration {
   }
 
   @Bean
-  public KeycloakModuleResourceCreator keycloakModuleResourceCreator(Keycloak keycloak, KeycloakService kcService) {
-    return new KeycloakModuleResourceCreator(keycloak, kcService);
+  public KeycloakModuleResourceCreator keycloakModuleResourceCreator(KeycloakService kcService) {
+    return new KeycloakModuleResourceCreator(kcService);
   }
 
   @Bean
-  public KeycloakModuleResourceUpdater keycloakModuleResourceUpdater(Keycloak keycloak, KeycloakService kcService) {
-    return new KeycloakModuleResourceUpdater(keycloak, kcService);
+  public KeycloakModuleResourceUpdater keycloakModuleResourceUpdater(KeycloakService kcService) {
+    return new KeycloakModuleResourceUpdater(kcService);
   }
 
   @Bean
-  public KeycloakModuleResourceCleaner keycloakModuleResourceCleaner(Keycloak keycloak, KeycloakService kcService) {
-    return new KeycloakModuleResourceCleaner(keycloak, kcService);
+  public KeycloakModuleResourceCleaner keycloakModuleResourceCleaner(KeycloakService kcService) {
+    return new KeycloakModuleResourceCleaner(kcService);
   }
 
   private String getKeycloakClientSecret(String clientId) {
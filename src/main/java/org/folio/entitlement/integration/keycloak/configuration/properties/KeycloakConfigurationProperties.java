@@ -1,5 +1,6 @@
 package org.folio.entitlement.integration.keycloak.configuration.properties;
 
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -28,6 +29,17 @@ public class KeycloakConfigurationProperties {
    */
   private Login login;
 
+  /**
+   * Defines if module authorization resources are reconciled with the existing realm resources.
+   */
+  private boolean resourceReconciliationEnabled;
+
+  /**
+   * Maximum number of authorization resources created or removed concurrently per module, 1 - sequential processing.
+   */
+  @Min(1)
+  private int resourceParallelism = 1;
+
   /**
    * Authorization token cache max size.
    */
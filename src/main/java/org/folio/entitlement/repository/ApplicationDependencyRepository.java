@@ -1,17 +1,20 @@
 package org.folio.entitlement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.folio.entitlement.domain.entity.ApplicationDependencyEntity;
 import org.folio.entitlement.domain.entity.key.ApplicationDependencyKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ApplicationDependencyRepository
-  extends JpaRepository<ApplicationDependencyEntity, ApplicationDependencyKey> {
+  extends JpaRepository<ApplicationDependencyEntity, ApplicationDependencyKey>,
+  BatchPersistRepository<ApplicationDependencyEntity> {
 
   List<ApplicationDependencyEntity> findByTenantIdAndParentNameIn(UUID tenantId, List<String> parentNames);
 
@@ -30,4 +33,13 @@ public interface ApplicationDependencyRepository
         FROM dependencies""")
   List<ApplicationDependencyEntity> findAllByTenantIdAndParentNameIn(@Param("tenant_id") UUID tenantId,
     @Param("parent_names") List<String> parentNames);
+
+  @Modifying
+  @Query("""
+    delete from ApplicationDependencyEntity entity
+      where entity.tenantId = :tenantId
+        and entity.applicationId = :applicationId
+        and entity.parentName in :parentNames""")
+  void deleteAllByParentNameIn(@Param("tenantId") UUID tenantId, @Param("applicationId") String applicationId,
+    @Param("parentNames") Collection<String> parentNames);
 }
@@ -12,7 +12,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ApplicationFlowRepository extends AbstractFlowRepository<ApplicationFlowEntity> {
+public interface ApplicationFlowRepository extends AbstractFlowRepository<ApplicationFlowEntity>,
+  BatchPersistRepository<ApplicationFlowEntity> {
 
   @Query("SELECT e FROM ApplicationFlowEntity e WHERE e.flowId = :flowId ORDER BY e.startedAt ASC")
   List<ApplicationFlowEntity> findByFlowId(UUID flowId);
@@ -0,0 +1,23 @@
+package org.folio.entitlement.repository;
+
+import java.util.Collection;
+
+/**
+ * Repository fragment for inserting new entities in JDBC batches.
+ *
+ * @param <T> - entity type
+ */
+public interface BatchPersistRepository<T> {
+
+  /**
+   * Persists new entities without loading them first, as {@code saveAll} does for entities with assigned ids.
+   *
+   * <p>
+   * Inserts are flushed in JDBC batches of {@code hibernate.jdbc.batch_size} statements. Entities must not exist in
+   * the database, otherwise the flush fails with a constraint violation.
+   * </p>
+   *
+   * @param entities - entities to persist
+   */
+  void persistAll(Collection<? extends T> entities);
+}
@@ -0,0 +1,19 @@
+package org.folio.entitlement.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class BatchPersistRepositoryImpl<T> implements BatchPersistRepository<T> {
+
+  private final EntityManager entityManager;
+
+  @Override
+  @Transactional
+  public void persistAll(Collection<? extends T> entities) {
+    entities.forEach(entityManager::persist);
+    entityManager.flush();
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.entitlement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.folio.entitlement.domain.entity.key.EntitlementModuleEntity;
@@ -7,12 +8,14 @@ import org.folio.entitlement.domain.entity.key.EntitlementModuleKey;
 import org.folio.spring.cql.JpaCqlRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EntitlementModuleRepository extends JpaCqlRepository<EntitlementModuleEntity, EntitlementModuleKey> {
+public interface EntitlementModuleRepository extends JpaCqlRepository<EntitlementModuleEntity, EntitlementModuleKey>,
+  BatchPersistRepository<EntitlementModuleEntity> {
 
   Page<EntitlementModuleEntity> findAllByModuleId(String moduleId, Pageable pageable);
 
@@ -29,4 +32,13 @@ public interface EntitlementModuleRepository extends JpaCqlRepository<Entitlemen
     order by entity.moduleId""")
   List<EntitlementModuleEntity> findAllByApplicationIdAndTenantId(
     @Param("applicationId") String applicationId, @Param("tenantId") UUID tenantId);
+
+  @Modifying
+  @Query("""
+    delete from EntitlementModuleEntity entity
+      where entity.tenantId = :tenantId
+        and entity.applicationId = :applicationId
+        and entity.moduleId in :moduleIds""")
+  void deleteAllByModuleIdIn(@Param("tenantId") UUID tenantId, @Param("applicationId") String applicationId,
+    @Param("moduleIds") Collection<String> moduleIds);
 }
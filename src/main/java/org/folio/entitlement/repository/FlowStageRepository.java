@@ -14,7 +14,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface FlowStageRepository extends JpaCqlRepository<FlowStageEntity, FlowStageKey> {
+public interface FlowStageRepository extends JpaCqlRepository<FlowStageEntity, FlowStageKey>,
+  FlowStageUpsertRepository {
 
   @Query("""
     select entity from FlowStageEntity entity
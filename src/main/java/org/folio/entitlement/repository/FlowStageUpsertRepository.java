@@ -0,0 +1,26 @@
+package org.folio.entitlement.repository;
+
+import java.util.Collection;
+import org.folio.entitlement.domain.entity.FlowStageEntity;
+
+/**
+ * Repository fragment for writing flow stage statuses with a native upsert, without loading the managed entity.
+ */
+public interface FlowStageUpsertRepository {
+
+  /**
+   * Inserts a stage or updates its status in a single statement. Start time is kept from the first write, error and
+   * retries fields are overwritten only by non-null values.
+   *
+   * @param stage - {@link FlowStageEntity} with the stage key, status and timestamps
+   */
+  void upsert(FlowStageEntity stage);
+
+  /**
+   * Upserts stages in JDBC batches, in the given order, using the same statement as {@link #upsert(FlowStageEntity)}.
+   *
+   * @param stages - {@link FlowStageEntity} objects with the stage keys, statuses and timestamps
+   * @param batchSize - maximum amount of statements in a single JDBC batch
+   */
+  void upsertAll(Collection<FlowStageEntity> stages, int batchSize);
+}
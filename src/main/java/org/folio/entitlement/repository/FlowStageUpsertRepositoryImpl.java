@@ -0,0 +1,63 @@
+package org.folio.entitlement.repository;
+
+import static java.time.ZoneOffset.UTC;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.folio.entitlement.domain.entity.FlowStageEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class FlowStageUpsertRepositoryImpl implements FlowStageUpsertRepository {
+
+  private static final String UPSERT_SQL = """
+    INSERT INTO flow_stage (flow_id, stage, status, error_type, error_message, started_at, finished_at,
+      retries_count, retries_info)
+    VALUES (?, ?, CAST(? AS entitlement_stage_status_type), ?, ?, ?, ?, ?, ?)
+    ON CONFLICT (flow_id, stage) DO UPDATE SET
+      status = EXCLUDED.status,
+      error_type = COALESCE(EXCLUDED.error_type, flow_stage.error_type),
+      error_message = COALESCE(EXCLUDED.error_message, flow_stage.error_message),
+      finished_at = EXCLUDED.finished_at,
+      retries_count = COALESCE(EXCLUDED.retries_count, flow_stage.retries_count),
+      retries_info = COALESCE(EXCLUDED.retries_info, flow_stage.retries_info)""";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  @Transactional
+  public void upsert(FlowStageEntity stage) {
+    jdbcTemplate.update(UPSERT_SQL, ps -> setParameters(ps, stage));
+  }
+
+  @Override
+  @Transactional
+  public void upsertAll(Collection<FlowStageEntity> stages, int batchSize) {
+    jdbcTemplate.batchUpdate(UPSERT_SQL, stages, batchSize, FlowStageUpsertRepositoryImpl::setParameters);
+  }
+
+  private static void setParameters(PreparedStatement ps, FlowStageEntity entity) throws SQLException {
+    ps.setObject(1, entity.getFlowId());
+    ps.setString(2, entity.getStageName());
+    ps.setString(3, entity.getStatus().name());
+    ps.setString(4, entity.getErrorType());
+    ps.setString(5, entity.getErrorMessage());
+    ps.setTimestamp(6, toUtcTimestamp(entity.getStartedAt()));
+    ps.setTimestamp(7, toUtcTimestamp(entity.getFinishedAt()));
+    ps.setObject(8, entity.getRetriesCount(), Types.INTEGER);
+    ps.setString(9, entity.getRetriesInfo());
+  }
+
+  /**
+   * Converts date time to UTC timestamp without time zone, in the same way as hibernate does with UTC jdbc time zone.
+   */
+  private static Timestamp toUtcTimestamp(ZonedDateTime dateTime) {
+    return dateTime != null ? Timestamp.valueOf(dateTime.withZoneSameInstant(UTC).toLocalDateTime()) : null;
+  }
+}
@@ -0,0 +1,25 @@
+package org.folio.entitlement.repository;
+
+import java.util.List;
+import org.folio.entitlement.domain.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+  /**
+   * Acquires transaction-level advisory lock, so only one relay drains the outbox at a time and the events are
+   * sent in the order they were stored.
+   *
+   * @param lockId - advisory lock identifier
+   * @return true if lock is acquired, false if it is held by another transaction
+   */
+  @Query(nativeQuery = true, value = "SELECT pg_try_advisory_xact_lock(:lockId)")
+  boolean tryLock(@Param("lockId") long lockId);
+
+  @Query(nativeQuery = true, value = "SELECT * FROM {h-schema}event_outbox ORDER BY id LIMIT :limit")
+  List<OutboxEventEntity> findBatch(@Param("limit") int limit);
+}
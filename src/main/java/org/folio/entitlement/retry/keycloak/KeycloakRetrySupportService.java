@@ -1,9 +1,13 @@
 package org.folio.entitlement.retry.keycloak;
 
+import static org.folio.entitlement.bulkhead.BulkheadRegistry.KEYCLOAK;
+
+import org.folio.entitlement.bulkhead.Bulkhead;
 import org.folio.entitlement.retry.annotations.KeycloakCallsRetryable;
 import org.folio.entitlement.utils.SafeCallable;
 import org.springframework.stereotype.Service;
 
+@Bulkhead(KEYCLOAK)
 @KeycloakCallsRetryable
 @Service
 public class KeycloakRetrySupportService {
@@ -55,7 +55,8 @@ public class ApplicationDependencyService {
     }
 
     var entities = toEntities(tenantId, applicationId, dependencies);
-    repository.saveAll(entities);
+    repository.deleteAllByParentNameIn(tenantId, applicationId, getParentNames(dependencies));
+    repository.persistAll(entities);
   }
 
   public void deleteEntitlementDependencies(UUID tenantId, String applicationId, List<Dependency> dependencies) {
@@ -63,8 +64,7 @@ public class ApplicationDependencyService {
       return;
     }
 
-    var entities = toEntities(tenantId, applicationId, dependencies);
-    repository.deleteAllInBatch(entities);
+    repository.deleteAllByParentNameIn(tenantId, applicationId, getParentNames(dependencies));
   }
 
   private Set<ApplicationDependencyEntity> toEntities(UUID tenantId, String applicationId,
@@ -74,6 +74,12 @@ public class ApplicationDependencyService {
       .collect(toSet());
   }
 
+  private static Set<String> getParentNames(List<Dependency> dependencies) {
+    return dependencies.stream()
+      .map(Dependency::getName)
+      .collect(toSet());
+  }
+
   private static Predicate<ApplicationDependencyEntity> satisfiesVersion(String parentVersion) {
     return dependency -> SemverUtils.satisfies(parentVersion, dependency.getParentVersion());
   }
@@ -1,21 +1,16 @@
 package org.folio.entitlement.service;
 
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toMap;
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
-import static org.apache.commons.collections4.MapUtils.emptyIfNull;
 import static org.folio.common.utils.CollectionUtils.toStream;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
@@ -32,53 +27,116 @@ public class ApplicationInstallationGraph {
     this.descriptors = new ArrayList<>(ListUtils.emptyIfNull(descriptors));
   }
 
+  /**
+   * Returns an installation sequence as list of application identifier sets.
+   *
+   * <p>
+   * Applications are layered using Kahn's algorithm: each application keeps a counter of unresolved dependencies and
+   * is placed to the next level when the counter reaches zero, so each dependency is visited only once.
+   * </p>
+   *
+   * @return list of application identifier sets as installation sequence
+   * @throws IllegalArgumentException if applications contain circular dependencies
+   */
   public List<Set<String>> getInstallationSequence() {
     var dependenciesByAppId = toDependenciesPerApplication(descriptors);
     log.debug("Getting installation sequence for applications with dependencies: {}", dependenciesByAppId);
 
+    var pendingDependencies = new HashMap<String, Integer>();
+    dependenciesByAppId.forEach((appId, dependencies) -> pendingDependencies.put(appId, dependencies.size()));
+    var dependentsByAppId = getDependentsPerApplication(dependenciesByAppId);
+
     var result = new ArrayList<Set<String>>();
+    var currentLevel = getIndependentApplications(dependenciesByAppId);
+    while (!currentLevel.isEmpty()) {
+      log.debug("Current level with #{} collected: {}", result.size(), currentLevel);
+      result.add(currentLevel);
+      currentLevel = getNextLevel(currentLevel, pendingDependencies, dependentsByAppId);
+    }
 
-    var prevLevel = Collections.<String>emptySet();
-    while (!dependenciesByAppId.isEmpty()) {
-      var currentLevel = new LinkedHashSet<String>();
+    if (!pendingDependencies.isEmpty()) {
+      // unexpected state of remaining dependencies: the applications are left, but they all have dependencies
+      // and none of them can be considered as an independent one at the current level
+      var remainingAppIds = pendingDependencies.keySet();
+      throw new IllegalArgumentException("No more independent applications can be found among the remaining ones: "
+        + remainingAppIds + ", circular dependencies: "
+        + findCircularDependencies(dependenciesByAppId, remainingAppIds));
+    }
 
-      iterMap(dependenciesByAppId, collectCurrentLevelApps(currentLevel, prevLevel));
-      log.debug("Current level with #{} collected: {}", result.size(), currentLevel);
+    return result;
+  }
 
-      if (isNotEmpty(currentLevel)) {
-        result.add(currentLevel);
-      } else if (!dependenciesByAppId.isEmpty()) {
-        // unexpected state of remaining dependency map: the map contains applications, but they all have dependencies
-        // and none of them can be considered as an independent one at the current level
-        throw new IllegalArgumentException("No more independent applications can be found among the remaining ones: "
-          + dependenciesByAppId);
+  private static LinkedHashSet<String> getIndependentApplications(Map<String, Set<String>> dependenciesByAppId) {
+    var result = new LinkedHashSet<String>();
+    dependenciesByAppId.forEach((appId, dependencies) -> {
+      if (dependencies.isEmpty()) {
+        result.add(appId);
       }
+    });
 
-      prevLevel = currentLevel;
-    }
+    return result;
+  }
+
+  private static Map<String, List<String>> getDependentsPerApplication(Map<String, Set<String>> dependenciesByAppId) {
+    var result = new HashMap<String, List<String>>();
+    dependenciesByAppId.forEach((appId, dependencies) -> dependencies.forEach(
+      dependency -> result.computeIfAbsent(dependency, k -> new ArrayList<>()).add(appId)));
 
     return result;
   }
 
-  private static BiConsumer<Entry<String, Set<String>>, Iterator<Entry<String, Set<String>>>> collectCurrentLevelApps(
-    Set<String> currentLevel, Set<String> prevLevel) {
-    return (entry, itr) -> {
-      var appId = entry.getKey();
-      var dependencies = entry.getValue();
-      log.debug("Examining application: appId = {}, dependencies = {}", appId, dependencies);
+  private static LinkedHashSet<String> getNextLevel(Set<String> level, Map<String, Integer> pendingDependencies,
+    Map<String, List<String>> dependentsByAppId) {
+    level.forEach(pendingDependencies::remove);
+    var nextLevel = new LinkedHashSet<String>();
+    for (var appId : level) {
+      for (var dependentAppId : dependentsByAppId.getOrDefault(appId, emptyList())) {
+        if (pendingDependencies.merge(dependentAppId, -1, Integer::sum) == 0) {
+          nextLevel.add(dependentAppId);
+          log.debug("Application added to the next level of installation: {}", dependentAppId);
+        }
+      }
+    }
 
-      dependencies.removeAll(prevLevel); // clean up dependencies found during previous iteration
+    return nextLevel;
+  }
+
+  private static List<List<String>> findCircularDependencies(Map<String, Set<String>> dependenciesByAppId,
+    Set<String> remainingAppIds) {
+    var appIds = remainingAppIds.stream().sorted().toList();
+    var appIndices = new HashMap<String, Integer>();
+    for (var i = 0; i < appIds.size(); i++) {
+      appIndices.put(appIds.get(i), i);
+    }
 
-      if (isEmpty(dependencies)) {
-        // if there are no dependencies it means the app has become independent and can be included into
-        // the current level of applications
+    var graph = new int[appIds.size()][];
+    for (var i = 0; i < appIds.size(); i++) {
+      graph[i] = dependenciesByAppId.get(appIds.get(i)).stream()
+        .map(appIndices::get)
+        .filter(Objects::nonNull)
+        .mapToInt(Integer::intValue)
+        .toArray();
+    }
+
+    return new StronglyConnectedComponents(graph).getComponents().stream()
+      .filter(component -> isCircularDependency(component, graph))
+      .map(component -> component.stream().map(appIds::get).sorted().toList())
+      .toList();
+  }
 
-        currentLevel.add(appId);
-        log.debug("Application added to the current level of installation: {}", appId);
+  private static boolean isCircularDependency(Set<Integer> component, int[][] graph) {
+    if (component.size() > 1) {
+      return true;
+    }
 
-        itr.remove(); // remove the app from the remaining application map after its inclusion into the result
+    var node = component.iterator().next();
+    for (var dependency : graph[node]) {
+      if (dependency == node) {
+        return true;
       }
-    };
+    }
+
+    return false;
   }
 
   private static Map<String, Set<String>> toDependenciesPerApplication(List<ApplicationDescriptor> descriptors) {
@@ -97,11 +155,4 @@ public class ApplicationInstallationGraph {
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
   }
-
-  private static <K, V> void iterMap(Map<K, V> map, BiConsumer<Entry<K, V>, Iterator<Entry<K, V>>> consumer) {
-    for (Iterator<Entry<K, V>> itr = emptyIfNull(map).entrySet().iterator(); itr.hasNext(); ) {
-      var entry = itr.next();
-      consumer.accept(entry, itr);
-    }
-  }
 }
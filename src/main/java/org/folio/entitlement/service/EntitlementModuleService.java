@@ -59,7 +59,8 @@ public class EntitlementModuleService {
 
   public void saveAll(UUID tenantId, String applicationId, List<String> modules) {
     var entities = toEntities(tenantId, applicationId, modules);
-    repository.saveAll(entities);
+    repository.deleteAllByModuleIdIn(tenantId, applicationId, modules);
+    repository.persistAll(entities);
   }
 
   public void deleteModuleEntitlement(ModuleRequest moduleRequest) {
@@ -73,12 +74,7 @@ public class EntitlementModuleService {
   }
 
   public void deleteAll(UUID tenantId, String applicationId, List<String> modules) {
-    var keys = toModuleKeys(tenantId, applicationId, modules);
-    repository.deleteAllById(keys);
-  }
-
-  private List<EntitlementModuleKey> toModuleKeys(UUID tenantId, String applicationId, List<String> modules) {
-    return mapItems(modules, module -> mapper.mapKey(module, tenantId, applicationId));
+    repository.deleteAllByModuleIdIn(tenantId, applicationId, modules);
   }
 
   private List<EntitlementModuleEntity> toEntities(UUID tenantId, String applicationId, List<String> modules) {
@@ -1,29 +1,31 @@
 package org.folio.entitlement.service;
 
-import static java.util.Collections.emptySet;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
-import static org.apache.commons.collections4.SetUtils.difference;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.substringBefore;
 import static org.folio.common.utils.CollectionUtils.reverseList;
 import static org.folio.entitlement.domain.dto.EntitlementType.REVOKE;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.common.domain.model.ApplicationDescriptor;
 import org.folio.common.domain.model.InterfaceReference;
 import org.folio.common.domain.model.ModuleDescriptor;
@@ -34,8 +36,8 @@ public class ModuleInstallationGraph {
   private final List<ModuleDescriptor> modules;
   private final Map<String, Integer> moduleIndices;
   private final EntitlementType entitlementType;
-  private final Map<InterfaceReference, List<String>> interfacesByModule;
-  private final int[][] adjacencyMatrix;
+  private final Map<String, Map<String, List<InterfaceProvider>>> interfaceProviders;
+  private final int[][] dependencies;
 
   /**
    * Creates {@link ModuleInstallationGraph} from application descriptor and {@link EntitlementType}.
@@ -58,64 +60,36 @@ public class ModuleInstallationGraph {
     this.entitlementType = type;
     var counter = new AtomicInteger();
     this.moduleIndices = modules.stream().collect(toMap(ModuleDescriptor::getId, v -> counter.getAndIncrement()));
-    this.interfacesByModule = getInterfacesByModule();
-    this.adjacencyMatrix = prepareAdjacencyMatrix();
+    this.interfaceProviders = getInterfaceProviders();
+    this.dependencies = prepareDependencyLists();
   }
 
   /**
    * Returns a sequence as list of lists with module identifiers as values.
    *
    * <p>
-   * This code is intended to prepare a sequence for folio-flow-engine that further can be easily transformed to a flow,
-   * code can be improved (if possible in future to get rid of n^2 complexity)
+   * This code is intended to prepare a sequence for folio-flow-engine that further can be easily transformed to a flow.
+   * Modules in a circular dependency are collapsed into a single group, then groups are layered using Kahn's
+   * algorithm: a group is placed one level after the deepest group it depends on, circular groups are never placed
+   * on the first level. Both steps are linear in the number of modules and dependencies.
    * </p>
    *
    * @return list of lists of module identifiers as installation sequence
    */
-  @SuppressWarnings("checkstyle:MethodLength")
   public List<List<String>> getInstallationSequence() {
-    var remainingIndices = new HashSet<Integer>();
-    for (var i = 0; i < adjacencyMatrix.length; i++) {
-      remainingIndices.add(i);
-    }
-
-    var moduleInstallationSequence = new HashMap<Integer, Set<String>>();
-    var visitedModuleIndices = new HashSet<Integer>();
-    var cycleCounter = 0;
-    for (var j = 0; j < adjacencyMatrix.length; j++) {
-      if (isIndependentModule(j) == 0) {
-        remainingIndices.remove(j);
-        visitedModuleIndices.add(j);
-        moduleInstallationSequence.computeIfAbsent(cycleCounter, v -> new HashSet<>()).add(getModuleId(j));
+    var moduleGroups = new StronglyConnectedComponents(dependencies).getComponents();
+    var groupIndices = new int[modules.size()];
+    for (var i = 0; i < moduleGroups.size(); i++) {
+      for (var moduleIdx : moduleGroups.get(i)) {
+        groupIndices[moduleIdx] = i;
       }
     }
 
-    cycleCounter++;
-
-    while (isNotEmpty(remainingIndices)) {
-      var currIterationVisitedModuleIndices = new HashSet<Integer>();
-      var visitedIndicesMap = new HashMap<Integer, Set<Integer>>();
-      for (var remainingIdx : new ArrayList<>(remainingIndices)) {
-        var remainingIndexMatrixRow = adjacencyMatrix[remainingIdx];
-        var dependentModuleIndices = getDependentModuleIndices(remainingIndexMatrixRow);
-        visitedIndicesMap.put(remainingIdx, difference(dependentModuleIndices, visitedModuleIndices));
-        if (visitedModuleIndices.containsAll(dependentModuleIndices)) {
-          currIterationVisitedModuleIndices.add(remainingIdx);
-          moduleInstallationSequence.computeIfAbsent(cycleCounter, v -> new HashSet<>()).add(getModuleId(remainingIdx));
-          remainingIndices.remove(remainingIdx);
-        }
-      }
-
-      var unresolvedDependenciesGraph = new UnresolvedDependenciesGraph(visitedIndicesMap);
-      var moduleIdsInCyclicDependency = unresolvedDependenciesGraph.getCyclicDependencies();
-      for (var moduleIdx : moduleIdsInCyclicDependency) {
-        currIterationVisitedModuleIndices.add(moduleIdx);
-        moduleInstallationSequence.computeIfAbsent(cycleCounter, v -> new HashSet<>()).add(getModuleId(moduleIdx));
-        remainingIndices.remove(moduleIdx);
-      }
-
-      visitedModuleIndices.addAll(currIterationVisitedModuleIndices);
-      cycleCounter++;
+    var groupLevels = getGroupLevels(moduleGroups, groupIndices);
+    var moduleInstallationSequence = new HashMap<Integer, Set<String>>();
+    for (var i = 0; i < modules.size(); i++) {
+      var level = groupLevels[groupIndices[i]];
+      moduleInstallationSequence.computeIfAbsent(level, v -> new HashSet<>()).add(getModuleId(i));
     }
 
     var installationSequence = finalizeModuleInstallationSequence(moduleInstallationSequence);
@@ -137,17 +111,78 @@ public class ModuleInstallationGraph {
     return resultDescriptors;
   }
 
-  private Map<InterfaceReference, List<String>> getInterfacesByModule() {
-    var result = new HashMap<InterfaceReference, List<String>>();
+  /**
+   * Indexes provided interfaces by interface id and major version, so the compatibility check is performed only for
+   * the providers that can satisfy the required interface.
+   *
+   * @return map with interface providers grouped by interface id and then by major version
+   */
+  private Map<String, Map<String, List<InterfaceProvider>>> getInterfaceProviders() {
+    var result = new HashMap<String, Map<String, List<InterfaceProvider>>>();
     for (var moduleDescriptor : modules) {
       for (var desc : emptyIfNull(moduleDescriptor.getProvides())) {
         var interfaceReference = InterfaceReference.of(desc.getId(), desc.getVersion());
-        result.computeIfAbsent(interfaceReference, v -> new ArrayList<>()).add(moduleDescriptor.getId());
+        result.computeIfAbsent(desc.getId(), v -> new HashMap<>())
+          .computeIfAbsent(getMajorVersion(desc.getVersion()), v -> new ArrayList<>())
+          .add(new InterfaceProvider(interfaceReference, moduleDescriptor.getId()));
       }
     }
     return unmodifiableMap(result);
   }
 
+  /**
+   * Calculates installation level per module group using Kahn's algorithm over the graph of module groups.
+   *
+   * @param moduleGroups - module groups, where each group is a single module or a set of modules in a cycle
+   * @param groupIndices - group index per module index
+   * @return array with installation level per group index
+   */
+  private int[] getGroupLevels(List<Set<Integer>> moduleGroups, int[] groupIndices) {
+    var groupsCount = moduleGroups.size();
+    var pendingDependencies = new int[groupsCount];
+    var dependentGroups = new ArrayList<List<Integer>>(groupsCount);
+    for (var i = 0; i < groupsCount; i++) {
+      dependentGroups.add(new ArrayList<>());
+    }
+
+    for (var moduleIdx = 0; moduleIdx < dependencies.length; moduleIdx++) {
+      var groupIdx = groupIndices[moduleIdx];
+      for (var dependencyIdx : dependencies[moduleIdx]) {
+        var dependencyGroupIdx = groupIndices[dependencyIdx];
+        if (dependencyGroupIdx != groupIdx) {
+          pendingDependencies[groupIdx]++;
+          dependentGroups.get(dependencyGroupIdx).add(groupIdx);
+        }
+      }
+    }
+
+    return calculateGroupLevels(moduleGroups, pendingDependencies, dependentGroups);
+  }
+
+  private static int[] calculateGroupLevels(List<Set<Integer>> moduleGroups, int[] pendingDependencies,
+    List<List<Integer>> dependentGroups) {
+    var levels = new int[moduleGroups.size()];
+    var queue = new ArrayDeque<Integer>();
+    for (var i = 0; i < levels.length; i++) {
+      levels[i] = moduleGroups.get(i).size() > 1 ? 1 : 0;
+      if (pendingDependencies[i] == 0) {
+        queue.add(i);
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      var groupIdx = queue.poll();
+      for (var dependentGroupIdx : dependentGroups.get(groupIdx)) {
+        levels[dependentGroupIdx] = Math.max(levels[dependentGroupIdx], levels[groupIdx] + 1);
+        if (--pendingDependencies[dependentGroupIdx] == 0) {
+          queue.add(dependentGroupIdx);
+        }
+      }
+    }
+
+    return levels;
+  }
+
   private static List<List<String>> finalizeModuleInstallationSequence(Map<Integer, Set<String>> sequenceMap) {
     return sequenceMap.entrySet()
       .stream()
@@ -162,143 +197,86 @@ public class ModuleInstallationGraph {
     return modules.get(remainingIdx).getId();
   }
 
-  private int isIndependentModule(int row) {
-    var result = 0;
-    for (var i = 0; i < adjacencyMatrix.length; i++) {
-      result += adjacencyMatrix[row][i];
-    }
-    return result;
-  }
-
-  private int[][] prepareAdjacencyMatrix() {
+  private int[][] prepareDependencyLists() {
     var size = modules.size();
-    var matrix = new int[size][size];
+    var result = new int[size][];
     for (var i = 0; i < size; i++) {
       var moduleDescriptor = modules.get(i);
       var requires = moduleDescriptor.getRequires();
       if (isEmpty(requires)) {
+        result[i] = new int[0];
         continue;
       }
 
+      var dependencyIndices = new LinkedHashSet<Integer>();
       for (var requiredInterface : requires) {
         var requiredModuleIds = findRequiredModuleIds(moduleDescriptor.getId(), requiredInterface);
         for (var moduleId : requiredModuleIds) {
-          var moduleIdx = moduleIndices.get(moduleId);
-          matrix[i][moduleIdx] = 1;
+          dependencyIndices.add(moduleIndices.get(moduleId));
         }
       }
-    }
-
-    return matrix;
-  }
 
-  private List<String> findRequiredModuleIds(String sourceModuleId, InterfaceReference interfaceReference) {
-    return interfacesByModule.entrySet().stream()
-      .filter(interfaceEntry -> interfaceEntry.getKey().isCompatible(interfaceReference))
-      .map(Entry::getValue)
-      .flatMap(Collection::stream)
-      .filter(moduleId -> !Objects.equals(moduleId, sourceModuleId))
-      .toList();
-  }
-
-  private Set<Integer> getDependentModuleIndices(int[] row) {
-    var result = new HashSet<Integer>();
-    for (var i = 0; i < row.length; i++) {
-      if (row[i] != 0) {
-        result.add(i);
-      }
+      result[i] = dependencyIndices.stream().mapToInt(Integer::intValue).toArray();
     }
 
     return result;
   }
 
-  private static List<String> toOrderedList(Set<String> moduleIds) {
-    var moduleIdsList = new ArrayList<>(moduleIds);
-    Collections.sort(moduleIdsList);
-    return moduleIdsList;
-  }
-
-  @RequiredArgsConstructor
-  private final class UnresolvedDependenciesGraph {
-
-    private final Map<Integer, Set<Integer>> graph;
-    private final Set<Set<Integer>> cyclicDependencySets = new HashSet<>();
-
-    private Set<Integer> getCyclicDependencies() {
-      var visited = new boolean[adjacencyMatrix.length];
-      var path = new ArrayList<Integer>();
-
-      for (var i = 1; i < visited.length; i++) {
-        findCircularDependencies(i, visited, path);
-      }
+  private List<String> findRequiredModuleIds(String sourceModuleId, InterfaceReference interfaceReference) {
+    var providersByMajorVersion = interfaceProviders.get(interfaceReference.getId());
+    if (providersByMajorVersion == null) {
+      return emptyList();
+    }
 
-      var foundCircularDependencies = mergeInterceptingSets();
-      var result = new HashSet<Integer>();
-      for (var circularDependency : foundCircularDependencies) {
-        if (!hasOtherDependencies(circularDependency)) {
-          result.addAll(circularDependency);
+    var result = new ArrayList<String>();
+    for (var providers : getCandidateProviders(providersByMajorVersion, interfaceReference.getVersion())) {
+      for (var provider : providers) {
+        var moduleId = provider.moduleId();
+        if (!Objects.equals(moduleId, sourceModuleId) && provider.isCompatible(interfaceReference)) {
+          result.add(moduleId);
         }
       }
-
-      return result;
     }
 
-    private boolean hasOtherDependencies(Set<Integer> circularDependencySet) {
-      var currentDependencies = new HashSet<Integer>();
-      for (var idx : circularDependencySet) {
-        currentDependencies.addAll(graph.getOrDefault(idx, emptySet()));
-      }
+    return result;
+  }
 
-      return !currentDependencies.equals(circularDependencySet);
+  private static Collection<List<InterfaceProvider>> getCandidateProviders(
+    Map<String, List<InterfaceProvider>> providersByMajorVersion, String requiredVersion) {
+    if (isBlank(requiredVersion)) {
+      return providersByMajorVersion.values();
     }
 
-    private void findCircularDependencies(int node, boolean[] visited, List<Integer> path) {
-      visited[node] = true;
-      path.add(node);
-
-      for (var n : graph.getOrDefault(node, emptySet())) {
-        if (visited[n]) {
-          collectCircularDependencies(n, path);
-          continue;
-        }
-
-        findCircularDependencies(n, visited, path);
-      }
-
-      path.remove(path.size() - 1);
-      visited[node] = false;
+    var majorVersions = new LinkedHashSet<String>();
+    for (var version : StringUtils.split(requiredVersion)) {
+      majorVersions.add(getMajorVersion(version));
     }
 
-    private void collectCircularDependencies(Integer n, List<Integer> path) {
-      var index = path.indexOf(n);
-      var cycle = new HashSet<Integer>();
-      for (var i = index; i < path.size(); i++) {
-        cycle.add(path.get(i));
+    var result = new ArrayList<List<InterfaceProvider>>();
+    for (var majorVersion : majorVersions) {
+      var providers = providersByMajorVersion.get(majorVersion);
+      if (providers != null) {
+        result.add(providers);
       }
-
-      cyclicDependencySets.add(cycle);
     }
 
-    private List<Set<Integer>> mergeInterceptingSets() {
-      var cyclicDependenciesList = new ArrayList<>(cyclicDependencySets);
+    return result;
+  }
 
-      for (var i = 0; i < cyclicDependenciesList.size(); i++) {
-        var firstSet = cyclicDependenciesList.get(i);
-        var iter = cyclicDependenciesList.listIterator(i + 1);
-        while (iter.hasNext()) {
-          var secondSet = iter.next();
+  private static String getMajorVersion(String version) {
+    return version == null ? null : substringBefore(version.trim(), ".");
+  }
 
-          var intersection = new HashSet<>(firstSet);
-          intersection.retainAll(secondSet);
+  private static List<String> toOrderedList(Set<String> moduleIds) {
+    var moduleIdsList = new ArrayList<>(moduleIds);
+    Collections.sort(moduleIdsList);
+    return moduleIdsList;
+  }
 
-          if (!intersection.isEmpty()) {
-            firstSet.addAll(secondSet);
-            iter.remove();
-          }
-        }
-      }
+  private record InterfaceProvider(InterfaceReference interfaceReference, String moduleId) {
 
-      return cyclicDependenciesList;
+    private boolean isCompatible(InterfaceReference requiredInterface) {
+      return interfaceReference.isCompatible(requiredInterface);
     }
   }
 }
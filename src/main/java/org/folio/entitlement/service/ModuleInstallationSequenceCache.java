@@ -0,0 +1,88 @@
+package org.folio.entitlement.service;
+
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+import static org.folio.common.utils.CollectionUtils.mapItems;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties;
+import org.folio.entitlement.domain.dto.EntitlementType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches module installation sequences computed by {@link ModuleInstallationGraph}.
+ *
+ * <p>
+ * Module descriptors are immutable per module id, so the installation sequence is identified by the set of module ids
+ * and the entitlement type. The same application version entitled for many tenants reuses the computed sequence.
+ * </p>
+ */
+@Log4j2
+@Component
+public class ModuleInstallationSequenceCache {
+
+  public static final String CACHE_NAME = "module-installation-sequence";
+
+  private final boolean enabled;
+  private final Cache<SequenceKey, List<List<String>>> cache;
+
+  /**
+   * Creates {@link ModuleInstallationSequenceCache} object.
+   *
+   * @param configuration - flow engine configuration properties
+   * @param meterRegistry - meter registry to publish cache hit/miss metrics
+   */
+  public ModuleInstallationSequenceCache(FlowEngineConfigurationProperties configuration,
+    MeterRegistry meterRegistry) {
+    var cacheConfiguration = configuration.getSequenceCache();
+    this.enabled = cacheConfiguration.isEnabled();
+    this.cache = Caffeine.newBuilder()
+      .maximumSize(cacheConfiguration.getMaxSize())
+      .recordStats()
+      .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Returns module installation sequence for the given module descriptors and entitlement type.
+   *
+   * @param moduleDescriptors - list with module descriptors
+   * @param type - entitlement type
+   * @return list of lists of module identifiers as installation sequence
+   */
+  public List<List<String>> getInstallationSequence(List<ModuleDescriptor> moduleDescriptors, EntitlementType type) {
+    var descriptors = emptyIfNull(moduleDescriptors);
+    if (!enabled) {
+      return new ModuleInstallationGraph(descriptors, type).getInstallationSequence();
+    }
+
+    var key = new SequenceKey(getFingerprint(descriptors), type);
+    return cache.get(key, k -> computeInstallationSequence(descriptors, type));
+  }
+
+  private static List<List<String>> computeInstallationSequence(List<ModuleDescriptor> descriptors,
+    EntitlementType type) {
+    log.debug("Computing module installation sequence: type = {}, modules = {}", type, descriptors.size());
+    var installationSequence = new ModuleInstallationGraph(descriptors, type).getInstallationSequence();
+    return List.copyOf(mapItems(installationSequence, List::copyOf));
+  }
+
+  private static String getFingerprint(List<ModuleDescriptor> moduleDescriptors) {
+    var moduleIds = moduleDescriptors.stream()
+      .map(ModuleDescriptor::getId)
+      .sorted()
+      .collect(joining("\n"));
+
+    return DigestUtils.sha256Hex(moduleIds);
+  }
+
+  private record SequenceKey(String fingerprint, EntitlementType type) {}
+}
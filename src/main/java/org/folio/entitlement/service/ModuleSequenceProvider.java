@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import org.folio.common.domain.model.ApplicationDescriptor;
 import org.folio.common.domain.model.Module;
 import org.folio.common.domain.model.ModuleDescriptor;
@@ -23,8 +24,11 @@ import org.folio.entitlement.utils.EntitlementServiceUtils;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class ModuleSequenceProvider {
 
+  private final ModuleInstallationSequenceCache installationSequenceCache;
+
   /**
    * Creates {@link ModulesSequence} object from application stage context, entitlement and module types.
    *
@@ -40,18 +44,17 @@ public class ModuleSequenceProvider {
       getDeprecatedModuleDescriptors(helper));
   }
 
-  private static List<List<ModuleDescriptorHolder>> getModuleDescriptorHolders(EntitlementType type, ModulesHelper mh) {
-    var moduleInstallationGraph = new ModuleInstallationGraph(mh.getModuleDescriptors(), type);
+  private List<List<ModuleDescriptorHolder>> getModuleDescriptorHolders(EntitlementType type, ModulesHelper mh) {
     var moduleDescriptorsMap = getModuleDescriptorsMap(mh);
-    var moduleInstallationSequence = moduleInstallationGraph.getInstallationSequence();
+    var moduleInstallationSequence = installationSequenceCache.getInstallationSequence(mh.getModuleDescriptors(), type);
     return mapItems(moduleInstallationSequence, moduleIds -> mapItems(moduleIds, moduleDescriptorsMap::get));
   }
 
-  private static List<List<ModuleDescriptor>> getDeprecatedModuleDescriptors(ModulesHelper mh) {
+  private List<List<ModuleDescriptor>> getDeprecatedModuleDescriptors(ModulesHelper mh) {
     var deprecatedModuleDescriptors = mh.getDeprecatedModuleDescriptors();
-    var installationGraph = new ModuleInstallationGraph(deprecatedModuleDescriptors, REVOKE);
     var installedModuleDescriptors = mh.getInstalledModuleDescriptorsById();
-    var moduleInstallationSequence = installationGraph.getInstallationSequence();
+    var moduleInstallationSequence = installationSequenceCache.getInstallationSequence(deprecatedModuleDescriptors,
+      REVOKE);
     return mapItems(moduleInstallationSequence, moduleIds -> mapItems(moduleIds, installedModuleDescriptors::get));
   }
 
@@ -0,0 +1,103 @@
+package org.folio.entitlement.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds strongly connected components in a dependency graph using an iterative version of Tarjan's algorithm, nodes
+ * without circular dependencies are returned as singleton components.
+ *
+ * <p>
+ * Graph is defined as an array of adjacency lists, where {@code graph[i]} contains indices of the nodes that node
+ * {@code i} depends on. Components are returned in reverse topological order: a component is returned only after all
+ * components it depends on.
+ * </p>
+ */
+final class StronglyConnectedComponents {
+
+  private final int[][] graph;
+  private final int[] indices;
+  private final int[] lowLinks;
+  private final int[] edgePositions;
+  private final boolean[] onStack;
+  private final Deque<Integer> componentStack = new ArrayDeque<>();
+  private final Deque<Integer> callStack = new ArrayDeque<>();
+  private final List<Set<Integer>> components = new ArrayList<>();
+  private int counter;
+
+  StronglyConnectedComponents(int[][] graph) {
+    this.graph = graph;
+    this.indices = new int[graph.length];
+    this.lowLinks = new int[graph.length];
+    this.edgePositions = new int[graph.length];
+    this.onStack = new boolean[graph.length];
+    Arrays.fill(indices, -1);
+  }
+
+  /**
+   * Returns strongly connected components of the graph.
+   *
+   * @return list with sets of node indices
+   */
+  List<Set<Integer>> getComponents() {
+    for (var node = 0; node < graph.length; node++) {
+      if (indices[node] == -1) {
+        traverse(node);
+      }
+    }
+
+    return components;
+  }
+
+  private void traverse(int root) {
+    visit(root);
+    while (!callStack.isEmpty()) {
+      var node = callStack.peek();
+      if (edgePositions[node] < graph[node].length) {
+        var next = graph[node][edgePositions[node]++];
+        if (indices[next] == -1) {
+          visit(next);
+        } else if (onStack[next]) {
+          lowLinks[node] = Math.min(lowLinks[node], indices[next]);
+        }
+        continue;
+      }
+
+      callStack.pop();
+      if (!callStack.isEmpty()) {
+        var parent = callStack.peek();
+        lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+      }
+
+      if (lowLinks[node] == indices[node]) {
+        collectComponent(node);
+      }
+    }
+  }
+
+  private void visit(int node) {
+    indices[node] = counter;
+    lowLinks[node] = counter;
+    counter++;
+    onStack[node] = true;
+    componentStack.push(node);
+    callStack.push(node);
+  }
+
+  private void collectComponent(int root) {
+    var component = new HashSet<Integer>();
+    int node;
+    do {
+      node = componentStack.pop();
+      onStack[node] = false;
+      component.add(node);
+    } while (node != root);
+
+    components.add(component);
+  }
+}
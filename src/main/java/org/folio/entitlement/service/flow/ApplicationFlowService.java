@@ -195,9 +195,9 @@ public class ApplicationFlowService {
     EntitlementType type, UUID tenantId) {
     var flowEntities = mapItems(applicationIds, appId ->
       applicationFlowMapper.mapWithStatusQueued(tenantId, appId, flowId, type));
-    var savedFlowEntities = applicationFlowRepository.saveAll(flowEntities);
+    applicationFlowRepository.persistAll(flowEntities);
 
-    return mapItems(savedFlowEntities, applicationFlowMapper::map);
+    return mapItems(flowEntities, applicationFlowMapper::map);
   }
 
   @Transactional
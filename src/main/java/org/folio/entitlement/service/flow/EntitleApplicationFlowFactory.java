@@ -4,6 +4,7 @@ import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.entitlement.domain.dto.EntitlementType;
+import org.folio.entitlement.integration.kafka.KafkaEventFlusher;
 import org.folio.entitlement.service.stage.ApplicationDependencySaver;
 import org.folio.entitlement.service.stage.ApplicationDescriptorValidator;
 import org.folio.entitlement.service.stage.ApplicationDiscoveryLoader;
@@ -13,6 +14,7 @@ import org.folio.entitlement.service.stage.EntitleRequestDependencyValidator;
 import org.folio.flow.api.DynamicStage;
 import org.folio.flow.api.Flow;
 import org.folio.flow.model.FlowExecutionStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -29,6 +31,8 @@ public class EntitleApplicationFlowFactory implements ApplicationFlowFactory {
   private final EntitleApplicationFlowFinalizer finishedFlowFinalizer;
   private final ApplicationFlowFinalizerCallbacks finalizerCallbacks;
 
+  private KafkaEventFlusher kafkaEventFlusher;
+
   /**
    * Creates a {@link Flow} object for application installation.
    *
@@ -45,8 +49,13 @@ public class EntitleApplicationFlowFactory implements ApplicationFlowFactory {
       .stage(applicationDependencySaver)
       .stage(entitleRequestDependencyValidator)
       .stage(applicationDiscoveryLoader)
-      .stage(DynamicStage.of(modulesFlowFactory.getName(), modulesFlowFactory::createFlow))
-      .stage(finishedFlowFinalizer);
+      .stage(DynamicStage.of(modulesFlowFactory.getName(), modulesFlowFactory::createFlow));
+
+    if (kafkaEventFlusher != null) {
+      builder.stage(kafkaEventFlusher);
+    }
+
+    builder.stage(finishedFlowFinalizer);
 
     return finalizerCallbacks.apply(builder)
       .executionStrategy(strategy)
@@ -58,4 +67,9 @@ public class EntitleApplicationFlowFactory implements ApplicationFlowFactory {
   public EntitlementType getEntitlementType() {
     return EntitlementType.ENTITLE;
   }
+
+  @Autowired(required = false)
+  public void setKafkaEventFlusher(KafkaEventFlusher kafkaEventFlusher) {
+    this.kafkaEventFlusher = kafkaEventFlusher;
+  }
 }
@@ -3,6 +3,7 @@ package org.folio.entitlement.service.flow;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.folio.entitlement.domain.dto.EntitlementType;
+import org.folio.entitlement.integration.kafka.KafkaEventFlusher;
 import org.folio.entitlement.service.stage.ApplicationDependencyCleaner;
 import org.folio.entitlement.service.stage.ApplicationDiscoveryLoader;
 import org.folio.entitlement.service.stage.ApplicationFlowInitializer;
@@ -11,6 +12,7 @@ import org.folio.entitlement.service.stage.RevokeRequestDependencyValidator;
 import org.folio.flow.api.DynamicStage;
 import org.folio.flow.api.Flow;
 import org.folio.flow.model.FlowExecutionStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,6 +28,8 @@ public class RevokeApplicationFlowFactory implements ApplicationFlowFactory {
   private final ApplicationFlowFinalizerCallbacks finalizerCallbacks;
   private final ModulesFlowProvider modulesFlowProvider;
 
+  private KafkaEventFlusher kafkaEventFlusher;
+
   @Override
   public Flow createFlow(Object flowId, FlowExecutionStrategy strategy, Map<?, ?> additionalFlowParameter) {
     var builder = Flow.builder()
@@ -34,8 +38,13 @@ public class RevokeApplicationFlowFactory implements ApplicationFlowFactory {
       .stage(requestDependencyValidator)
       .stage(applicationDiscoveryLoader)
       .stage(DynamicStage.of(modulesFlowProvider.getName(), modulesFlowProvider::createFlow))
-      .stage(applicationDependencyCleaner)
-      .stage(finishedFlowFinalizer);
+      .stage(applicationDependencyCleaner);
+
+    if (kafkaEventFlusher != null) {
+      builder.stage(kafkaEventFlusher);
+    }
+
+    builder.stage(finishedFlowFinalizer);
 
     return finalizerCallbacks.apply(builder)
       .executionStrategy(strategy)
@@ -47,4 +56,9 @@ public class RevokeApplicationFlowFactory implements ApplicationFlowFactory {
   public EntitlementType getEntitlementType() {
     return EntitlementType.REVOKE;
   }
+
+  @Autowired(required = false)
+  public void setKafkaEventFlusher(KafkaEventFlusher kafkaEventFlusher) {
+    this.kafkaEventFlusher = kafkaEventFlusher;
+  }
 }
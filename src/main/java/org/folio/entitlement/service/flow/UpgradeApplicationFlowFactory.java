@@ -3,6 +3,7 @@ package org.folio.entitlement.service.flow;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.folio.entitlement.domain.dto.EntitlementType;
+import org.folio.entitlement.integration.kafka.KafkaEventFlusher;
 import org.folio.entitlement.service.stage.ApplicationDependencyUpdater;
 import org.folio.entitlement.service.stage.ApplicationDiscoveryLoader;
 import org.folio.entitlement.service.stage.ApplicationFlowInitializer;
@@ -11,6 +12,7 @@ import org.folio.entitlement.service.stage.UpgradeRequestDependencyValidator;
 import org.folio.flow.api.DynamicStage;
 import org.folio.flow.api.Flow;
 import org.folio.flow.model.FlowExecutionStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -27,6 +29,8 @@ public class UpgradeApplicationFlowFactory implements ApplicationFlowFactory {
   private final UpgradeApplicationFlowFinalizer finishedFlowFinalizer;
   private final ApplicationFlowFinalizerCallbacks finalizerCallbacks;
 
+  private KafkaEventFlusher kafkaEventFlusher;
+
   @Override
   public Flow createFlow(Object flowId, FlowExecutionStrategy strategy, Map<?, ?> additionalFlowParameter) {
     var builder = Flow.builder()
@@ -35,8 +39,13 @@ public class UpgradeApplicationFlowFactory implements ApplicationFlowFactory {
       .stage(upgradeRequestDependencyValidator)
       .stage(applicationDiscoveryLoader)
       .stage(DynamicStage.of(modulesFlowProvider.getName(), modulesFlowProvider::createFlow))
-      .stage(applicationDependencyUpdater)
-      .stage(finishedFlowFinalizer);
+      .stage(applicationDependencyUpdater);
+
+    if (kafkaEventFlusher != null) {
+      builder.stage(kafkaEventFlusher);
+    }
+
+    builder.stage(finishedFlowFinalizer);
 
     return finalizerCallbacks.apply(builder)
       .executionStrategy(strategy)
@@ -48,4 +57,9 @@ public class UpgradeApplicationFlowFactory implements ApplicationFlowFactory {
   public EntitlementType getEntitlementType() {
     return EntitlementType.UPGRADE;
   }
+
+  @Autowired(required = false)
+  public void setKafkaEventFlusher(KafkaEventFlusher kafkaEventFlusher) {
+    this.kafkaEventFlusher = kafkaEventFlusher;
+  }
 }
@@ -54,6 +54,11 @@ public abstract class AbstractFlowFinalizer<T extends AbstractFlowEntity, C exte
 
   protected void afterFlowStatusUpdate(C context) {}
 
+  @Override
+  protected boolean isStageStatusWriteRequired() {
+    return true;
+  }
+
   /**
    * Cancellation must be able to roll back a FINISHED flow and to supersede a timeout-forced FAILED status;
    * FINISHED/FAILED must not overwrite a status already reported to the caller.
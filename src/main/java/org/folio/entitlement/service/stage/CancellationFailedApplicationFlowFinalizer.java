@@ -5,20 +5,37 @@ import static org.folio.entitlement.domain.dto.ExecutionStatus.CANCELLATION_FAIL
 import org.folio.entitlement.domain.dto.ExecutionStatus;
 import org.folio.entitlement.domain.entity.ApplicationFlowEntity;
 import org.folio.entitlement.domain.model.ApplicationStageContext;
+import org.folio.entitlement.integration.kafka.KafkaEventPublisher;
 import org.folio.entitlement.repository.ApplicationFlowRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class CancellationFailedApplicationFlowFinalizer
   extends AbstractFlowFinalizer<ApplicationFlowEntity, ApplicationStageContext> {
 
+  private final KafkaEventPublisher kafkaEventPublisher;
+
   /**
    * Injects beans from spring context.
    *
    * @param applicationFlowRepository - {@link ApplicationFlowRepository} bean
+   * @param kafkaEventPublisher - {@link KafkaEventPublisher} bean
    */
-  public CancellationFailedApplicationFlowFinalizer(ApplicationFlowRepository applicationFlowRepository) {
+  public CancellationFailedApplicationFlowFinalizer(ApplicationFlowRepository applicationFlowRepository,
+    KafkaEventPublisher kafkaEventPublisher) {
     super(applicationFlowRepository);
+    this.kafkaEventPublisher = kafkaEventPublisher;
+  }
+
+  /**
+   * Discards events that module stages sent asynchronously, since the application flow will not flush them.
+   */
+  @Override
+  @Transactional
+  public void execute(ApplicationStageContext context) {
+    kafkaEventPublisher.discard(context.getCurrentFlowId());
+    super.execute(context);
   }
 
   @Override
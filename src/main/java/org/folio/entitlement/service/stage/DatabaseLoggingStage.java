@@ -9,53 +9,51 @@ import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.IN_
 import static org.folio.entitlement.domain.model.ModuleStageContext.ATTR_RETRY_INFO;
 import static org.folio.entitlement.utils.EntitlementServiceUtils.getErrorMessage;
 
+import java.time.ZonedDateTime;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entitlement.domain.entity.FlowStageEntity;
-import org.folio.entitlement.domain.entity.key.FlowStageKey;
 import org.folio.entitlement.domain.entity.type.EntityExecutionStatus;
 import org.folio.entitlement.domain.model.IdentifiableStageContext;
 import org.folio.entitlement.domain.model.RetryInformation;
+import org.folio.entitlement.integration.kafka.EventOutbox;
 import org.folio.entitlement.repository.FlowStageRepository;
 import org.folio.flow.api.Stage;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 public abstract class DatabaseLoggingStage<C extends IdentifiableStageContext> implements Stage<C> {
 
   protected FlowStageRepository stageRepository;
   protected ThreadLocalModuleStageContext threadLocalModuleStageContext;
+  protected EventOutbox eventOutbox;
+  protected FlowStageStatusWriter flowStageStatusWriter;
+  protected TransactionTemplate transactionTemplate;
 
   @Override
-  @Transactional
   public void onStart(C context) {
-    var entity = new FlowStageEntity();
-    entity.setFlowId(context.getCurrentFlowId());
-    entity.setStageName(getStageName(context));
+    var entity = createStageEntity(context);
     entity.setStatus(IN_PROGRESS);
-    stageRepository.save(entity);
+    entity.setStartedAt(entity.getFinishedAt());
+    saveStageEntity(entity);
   }
 
   @Override
-  @Transactional
   public void onSuccess(C context) {
     setEntitlementStageStatus(context, FINISHED, null);
   }
 
   @Override
-  @Transactional
   public void onCancel(C context) {
     setEntitlementStageStatus(context, CANCELLED, null);
   }
 
   @Override
-  @Transactional
   public void onCancelError(C context, Exception exception) {
     setEntitlementStageStatus(context, CANCELLATION_FAILED, exception);
   }
 
   @Override
-  @Transactional
   public void onError(C context, Exception exception) {
     setEntitlementStageStatus(context, FAILED, exception);
   }
@@ -70,6 +68,21 @@ public abstract class DatabaseLoggingStage<C extends IdentifiableStageContext> i
     this.threadLocalModuleStageContext = threadLocalModuleStageContext;
   }
 
+  @Autowired(required = false)
+  public void setEventOutbox(EventOutbox eventOutbox) {
+    this.eventOutbox = eventOutbox;
+  }
+
+  @Autowired(required = false)
+  public void setFlowStageStatusWriter(FlowStageStatusWriter flowStageStatusWriter) {
+    this.flowStageStatusWriter = flowStageStatusWriter;
+  }
+
+  @Autowired
+  public void setTransactionTemplate(TransactionTemplate transactionTemplate) {
+    this.transactionTemplate = transactionTemplate;
+  }
+
   @Override
   public String getId() {
     return this.getClass().getSimpleName();
@@ -86,9 +99,18 @@ public abstract class DatabaseLoggingStage<C extends IdentifiableStageContext> i
     return getId();
   }
 
+  /**
+   * Defines if queued stage statuses must be written when the stage is finished, used by the stages that complete a
+   * flow, so the flow stages are persisted when the flow result is reported.
+   *
+   * @return true if queued stage statuses must be written on stage success, false otherwise
+   */
+  protected boolean isStageStatusWriteRequired() {
+    return false;
+  }
+
   private void setEntitlementStageStatus(C context, EntityExecutionStatus status, Exception error) {
-    var stageExecutionKey = FlowStageKey.of(context.getCurrentFlowId(), getStageName(context));
-    var stageExecutionEntity = stageRepository.getReferenceById(stageExecutionKey);
+    var stageExecutionEntity = createStageEntity(context);
     stageExecutionEntity.setStatus(status);
 
     if (error != null) {
@@ -106,6 +128,71 @@ public abstract class DatabaseLoggingStage<C extends IdentifiableStageContext> i
     }
     threadLocalModuleStageContext.clear();
 
-    stageRepository.save(stageExecutionEntity);
+    saveStageEntity(stageExecutionEntity);
+  }
+
+  private FlowStageEntity createStageEntity(C context) {
+    var entity = new FlowStageEntity();
+    entity.setFlowId(context.getCurrentFlowId());
+    entity.setStageName(getStageName(context));
+    entity.setFinishedAt(ZonedDateTime.now());
+    return entity;
+  }
+
+  /**
+   * Saves stage status together with the outbox events of the stage in one transaction.
+   *
+   * <p>
+   * If the write-behind writer is enabled, the status is queued outside of any transaction, queued statuses of the
+   * flow are written synchronously if the stage is not finished, so the failure details are available once the flow
+   * fails, or if the stage completes a flow. A stage with outbox events to store writes its status directly, so the
+   * events and the status stay in the same transaction.
+   * </p>
+   */
+  private void saveStageEntity(FlowStageEntity entity) {
+    var status = entity.getStatus();
+    if (flowStageStatusWriter != null && !isOutboxStoreRequired(status)) {
+      completeOutboxEvents(status);
+      flowStageStatusWriter.write(entity);
+      if (isFlowStatusWriteRequired(status)) {
+        flowStageStatusWriter.flush(entity.getFlowId());
+      }
+      return;
+    }
+
+    if (flowStageStatusWriter != null) {
+      flowStageStatusWriter.flush(entity.getFlowId());
+    }
+
+    transactionTemplate.executeWithoutResult(transactionStatus -> {
+      stageRepository.upsert(entity);
+      completeOutboxEvents(status);
+    });
+  }
+
+  private boolean isFlowStatusWriteRequired(EntityExecutionStatus status) {
+    return status == FAILED || status == CANCELLED || status == CANCELLATION_FAILED
+      || (status == FINISHED && isStageStatusWriteRequired());
+  }
+
+  private boolean isOutboxStoreRequired(EntityExecutionStatus status) {
+    return eventOutbox != null && status != IN_PROGRESS && status != FAILED && eventOutbox.hasPendingEvents();
+  }
+
+  /**
+   * Stores events sent by the finished or cancelled stage in the outbox within the stage status transaction, so the
+   * compensating events of cancellation are relayed after the events of execution, events of failed stage are
+   * discarded.
+   */
+  private void completeOutboxEvents(EntityExecutionStatus status) {
+    if (eventOutbox == null || status == IN_PROGRESS) {
+      return;
+    }
+
+    if (status == FAILED) {
+      eventOutbox.discard();
+    } else {
+      eventOutbox.store();
+    }
   }
 }
@@ -0,0 +1,152 @@
+package org.folio.entitlement.service.stage;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties;
+import org.folio.entitlement.domain.entity.FlowStageEntity;
+import org.folio.entitlement.repository.FlowStageRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind writer of flow stage statuses.
+ *
+ * <p>
+ * Stage statuses are queued by {@link DatabaseLoggingStage} outside of the stage transaction and written with JDBC
+ * batch upserts, either by schedule, or when the batch size is reached. Statuses of a flow are written synchronously
+ * by {@link #flush(UUID)} when a stage of the flow fails or the flow is finalized. Statuses are written in the order
+ * they were queued, so the start of a stage is always written before its completion.
+ * </p>
+ *
+ * <p>
+ * A failed write puts the statuses back at the head of the queue. Failures of scheduled and batch size writes are
+ * only logged, a failure is reported only to the flow that writes its own statuses synchronously.
+ * </p>
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty("application.flow-engine.stage-status-writer.enabled")
+public class FlowStageStatusWriter {
+
+  private final FlowStageRepository flowStageRepository;
+  private final int batchSize;
+  private final BlockingDeque<FlowStageEntity> queue;
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  /**
+   * Injects beans from spring context.
+   *
+   * @param flowStageRepository - {@link FlowStageRepository} bean
+   * @param configuration - flow engine configuration properties
+   */
+  public FlowStageStatusWriter(FlowStageRepository flowStageRepository,
+    FlowEngineConfigurationProperties configuration) {
+    var writerConfiguration = configuration.getStageStatusWriter();
+    this.flowStageRepository = flowStageRepository;
+    this.batchSize = writerConfiguration.getBatchSize();
+    this.queue = new LinkedBlockingDeque<>(writerConfiguration.getQueueCapacity());
+  }
+
+  /**
+   * Queues flow stage status, writes queued statuses if the batch size is reached. If the queue stays full, the
+   * statuses of the flow are written synchronously.
+   *
+   * @param entity - {@link FlowStageEntity} with stage status
+   */
+  public void write(FlowStageEntity entity) {
+    if (queue.offerLast(entity)) {
+      if (queue.size() >= batchSize) {
+        flush();
+      }
+      return;
+    }
+
+    flush();
+    if (!queue.offerLast(entity)) {
+      log.warn("Flow stage status queue is full, statuses are written synchronously: flowId = {}",
+        entity.getFlowId());
+      writeFlowStatuses(entity.getFlowId(), entity);
+    }
+  }
+
+  /**
+   * Writes all queued flow stage statuses, a failure is logged and the statuses are retried by the next write.
+   */
+  @PreDestroy
+  @Scheduled(fixedDelayString = "#{@flowEngineConfigurationProperties.stageStatusWriter.flushInterval.toMillis()}")
+  public void flush() {
+    writeLock.lock();
+    try {
+      var entities = new ArrayList<FlowStageEntity>(queue.size());
+      queue.drainTo(entities);
+      if (!entities.isEmpty()) {
+        upsert(entities);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Failed to write queued flow stage statuses, statuses will be written by the next flush", e);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Writes queued statuses of the flow synchronously.
+   *
+   * @param flowId - flow identifier, used as {@link FlowStageEntity#getFlowId()}
+   * @throws RuntimeException if statuses of the flow cannot be written
+   */
+  public void flush(UUID flowId) {
+    writeFlowStatuses(flowId, null);
+  }
+
+  private void writeFlowStatuses(UUID flowId, FlowStageEntity entity) {
+    writeLock.lock();
+    try {
+      var entities = drain(flowId);
+      if (entity != null) {
+        entities.add(entity);
+      }
+
+      if (!entities.isEmpty()) {
+        upsert(entities);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private List<FlowStageEntity> drain(UUID flowId) {
+    var entities = new ArrayList<FlowStageEntity>();
+    for (var iterator = queue.iterator(); iterator.hasNext(); ) {
+      var entity = iterator.next();
+      if (flowId.equals(entity.getFlowId())) {
+        entities.add(entity);
+        iterator.remove();
+      }
+    }
+
+    return entities;
+  }
+
+  private void upsert(List<FlowStageEntity> entities) {
+    try {
+      flowStageRepository.upsertAll(entities, batchSize);
+      log.debug("Flow stage statuses written: count = {}", entities.size());
+    } catch (RuntimeException e) {
+      for (var i = entities.size() - 1; i >= 0; i--) {
+        if (!queue.offerFirst(entities.get(i))) {
+          log.warn("Flow stage status is dropped, queue is full: flowId = {}, stage = {}",
+            entities.get(i).getFlowId(), entities.get(i).getStageName());
+        }
+      }
+      throw e;
+    }
+  }
+}
@@ -6,8 +6,10 @@ import org.folio.entitlement.domain.dto.Entitlement;
 import org.folio.entitlement.domain.dto.ExecutionStatus;
 import org.folio.entitlement.domain.entity.ApplicationFlowEntity;
 import org.folio.entitlement.domain.model.ApplicationStageContext;
+import org.folio.entitlement.integration.keycloak.KeycloakService;
 import org.folio.entitlement.repository.ApplicationFlowRepository;
 import org.folio.entitlement.service.EntitlementCrudService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,6 +17,7 @@ public class RevokeApplicationFlowFinalizer
   extends AbstractFlowFinalizer<ApplicationFlowEntity, ApplicationStageContext> {
 
   private final EntitlementCrudService entitlementCrudService;
+  private KeycloakService keycloakService;
 
   public RevokeApplicationFlowFinalizer(ApplicationFlowRepository applicationFlowRepository,
     EntitlementCrudService entitlementCrudService) {
@@ -27,10 +30,21 @@ public class RevokeApplicationFlowFinalizer
     var applicationId = context.getApplicationId();
     var entitlement = new Entitlement().applicationId(applicationId).tenantId(context.getTenantId());
     entitlementCrudService.delete(entitlement);
+
+    // the tenant realm can be removed and re-created after revocation, so the cached login client must not be reused
+    var tenantName = context.getTenantName();
+    if (keycloakService != null && tenantName != null) {
+      keycloakService.evictAuthorizationClient(tenantName);
+    }
   }
 
   @Override
   protected ExecutionStatus getFinalStatus() {
     return FINISHED;
   }
+
+  @Autowired(required = false)
+  public void setKeycloakService(KeycloakService keycloakService) {
+    this.keycloakService = keycloakService;
+  }
 }
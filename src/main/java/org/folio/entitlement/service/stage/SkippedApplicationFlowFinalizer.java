@@ -21,4 +21,9 @@ public class SkippedApplicationFlowFinalizer extends DatabaseLoggingStage<Applic
   public void execute(ApplicationStageContext stageContext) {
     applicationFlowRepository.removeQueuedFlow(stageContext.getCurrentFlowId());
   }
+
+  @Override
+  protected boolean isStageStatusWriteRequired() {
+    return true;
+  }
 }
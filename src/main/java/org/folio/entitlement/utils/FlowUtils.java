@@ -83,12 +83,15 @@ public class FlowUtils {
   public static void addErrorInformation(String error, ThreadLocalModuleStageContext threadLocalModuleStageContext) {
     var context = threadLocalModuleStageContext.get();
     if (context != null) {
-      var retryInfo = (RetryInformation) context.get(ATTR_RETRY_INFO);
-      if (retryInfo == null) {
-        retryInfo = RetryInformation.builder().build();
-        context.put(ATTR_RETRY_INFO, retryInfo);
+      // module stage context can be shared with parallel calls of the same stage (e.g. Keycloak resource creation)
+      synchronized (context) {
+        var retryInfo = (RetryInformation) context.get(ATTR_RETRY_INFO);
+        if (retryInfo == null) {
+          retryInfo = RetryInformation.builder().build();
+          context.put(ATTR_RETRY_INFO, retryInfo);
+        }
+        retryInfo.addError(error).incrementRetriesCount();
       }
-      retryInfo.addError(error).incrementRetriesCount();
     } else {
       log.warn("Cannot store error information for a Flow Stage - no module stage context provided.");
     }
@@ -11,6 +11,7 @@ import tools.jackson.databind.ObjectMapper;
 public class JsonConverter {
 
   private static final String SERIALIZATION_ERROR_MSG_TEMPLATE = "Failed to serialize value [message: %s]";
+  private static final String DESERIALIZATION_ERROR_MSG_TEMPLATE = "Failed to deserialize value [message: %s]";
   private final ObjectMapper objectMapper;
 
   /**
@@ -30,4 +31,24 @@ public class JsonConverter {
       throw new SerializationException(String.format(SERIALIZATION_ERROR_MSG_TEMPLATE, e.getMessage()));
     }
   }
+
+  /**
+   * Converts passed json string to the object of given type.
+   *
+   * @param json - json value as {@link String}
+   * @param type - target value type
+   * @param <T> - generic type for target value
+   * @return converted value
+   */
+  public <T> T fromJson(String json, Class<T> type) {
+    if (json == null) {
+      return null;
+    }
+
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JacksonException e) {
+      throw new SerializationException(String.format(DESERIALIZATION_ERROR_MSG_TEMPLATE, e.getMessage()));
+    }
+  }
 }
@@ -0,0 +1,124 @@
+package org.folio.entitlement.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.folio.entitlement.configuration.BulkheadConfigurationProperties;
+import org.folio.entitlement.configuration.BulkheadConfigurationProperties.BulkheadProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+@UnitTest
+class BulkheadInterceptorTest {
+
+  private static final String BULKHEAD_NAME = "test";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BulkheadConfigurationProperties configuration = new BulkheadConfigurationProperties();
+  private BulkheadRegistry bulkheadRegistry;
+  private TestClient testClient;
+
+  @BeforeEach
+  void setUp() {
+    var bulkheadProperties = new BulkheadProperties();
+    bulkheadProperties.setMaxConcurrentCalls(1);
+    bulkheadProperties.setMaxWaitDuration(Duration.ofMillis(10));
+    configuration.setInstances(Map.of(BULKHEAD_NAME, bulkheadProperties));
+
+    bulkheadRegistry = new BulkheadRegistry(configuration, meterRegistry);
+    var proxyFactory = new ProxyFactory(new TestClient());
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvice(new BulkheadInterceptor(bulkheadRegistry));
+    testClient = (TestClient) proxyFactory.getProxy();
+  }
+
+  @Test
+  void invoke_positive() {
+    var result = testClient.call();
+
+    assertThat(result).isZero();
+    assertThat(availablePermits()).isEqualTo(1);
+    assertThat(meterRegistry.get("bulkhead.wait").tag("name", BULKHEAD_NAME).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void invoke_positive_methodWithoutAnnotation() {
+    bulkheadRegistry.get(BULKHEAD_NAME).acquire();
+
+    var result = testClient.callWithoutBulkhead();
+
+    assertThat(result).isEqualTo("result");
+  }
+
+  @Test
+  void invoke_positive_disabled() {
+    configuration.setEnabled(false);
+    bulkheadRegistry.get(BULKHEAD_NAME).acquire();
+
+    var result = testClient.call();
+
+    assertThat(result).isZero();
+  }
+
+  @Test
+  void invoke_positive_permitIsReleasedOnError() {
+    assertThatThrownBy(testClient::fail).isInstanceOf(IllegalStateException.class);
+    assertThat(availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  void invoke_positive_asyncCall() {
+    var future = new CompletableFuture<String>();
+
+    var result = testClient.callAsync(future);
+
+    assertThat(availablePermits()).isZero();
+    future.complete("result");
+    assertThat(result).isCompletedWithValue("result");
+    assertThat(availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  void invoke_negative_noAvailablePermits() {
+    bulkheadRegistry.get(BULKHEAD_NAME).acquire();
+
+    assertThatThrownBy(testClient::call)
+      .isInstanceOf(BulkheadFullException.class)
+      .hasMessage("Maximum number of concurrent calls is reached");
+
+    var rejectedCalls = meterRegistry.get("bulkhead.rejected.calls").tag("name", BULKHEAD_NAME).counter().count();
+    assertThat(rejectedCalls).isEqualTo(1d);
+  }
+
+  private double availablePermits() {
+    return meterRegistry.get("bulkhead.available.concurrent.calls").tag("name", BULKHEAD_NAME).gauge().value();
+  }
+
+  public static class TestClient {
+
+    @Bulkhead(BULKHEAD_NAME)
+    public Integer call() {
+      return 0;
+    }
+
+    @Bulkhead(BULKHEAD_NAME)
+    public void fail() {
+      throw new IllegalStateException("error");
+    }
+
+    @Bulkhead(BULKHEAD_NAME)
+    public CompletableFuture<String> callAsync(CompletableFuture<String> future) {
+      return future;
+    }
+
+    public String callWithoutBulkhead() {
+      return "result";
+    }
+  }
+}
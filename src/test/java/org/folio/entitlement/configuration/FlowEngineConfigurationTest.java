@@ -1,10 +1,14 @@
 package org.folio.entitlement.configuration;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entitlement.configuration.FlowEngineConfigurationProperties.ExecutorMode.PLATFORM;
+import static org.folio.entitlement.configuration.FlowEngineConfigurationProperties.ExecutorMode.VIRTUAL;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +35,7 @@ class FlowEngineConfigurationTest {
     when(configurationProperties.getPrintFlowResult()).thenReturn(false);
     when(configurationProperties.getExecutionTimeout()).thenReturn(Duration.ofMillis(100));
     when(configurationProperties.getLastExecutionsStatusCacheSize()).thenReturn(20);
+    when(configurationProperties.getExecutorMode()).thenReturn(PLATFORM);
 
     var flowEngine = flowEngineConfiguration.flowEngine(configurationProperties);
 
@@ -40,9 +45,34 @@ class FlowEngineConfigurationTest {
   @Test
   void moduleInstallerExecutor_positive() {
     when(configurationProperties.getModuleInstallerThreads()).thenReturn(4);
+    when(configurationProperties.getExecutorMode()).thenReturn(PLATFORM);
 
     var executor = flowEngineConfiguration.moduleInstallerExecutor(configurationProperties);
 
     assertThat(executor).isNotNull();
   }
+
+  @Test
+  void moduleInstallerExecutor_positive_virtualThreads() throws Exception {
+    when(configurationProperties.getModuleInstallerThreads()).thenReturn(4);
+    when(configurationProperties.getExecutorMode()).thenReturn(VIRTUAL);
+
+    var executor = flowEngineConfiguration.moduleInstallerExecutor(configurationProperties);
+    var result = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor);
+
+    assertThat(result.get(5, SECONDS)).isTrue();
+  }
+
+  @Test
+  void flowEngine_positive_virtualThreads() {
+    when(configurationProperties.getPoolThreads()).thenReturn(2);
+    when(configurationProperties.getPrintFlowResult()).thenReturn(false);
+    when(configurationProperties.getExecutionTimeout()).thenReturn(Duration.ofMillis(100));
+    when(configurationProperties.getLastExecutionsStatusCacheSize()).thenReturn(20);
+    when(configurationProperties.getExecutorMode()).thenReturn(VIRTUAL);
+
+    var flowEngine = flowEngineConfiguration.flowEngine(configurationProperties);
+
+    assertThat(flowEngine).isNotNull();
+  }
 }
@@ -13,28 +13,45 @@ import static org.folio.entitlement.domain.model.ModuleStageContext.PARAM_INSTAL
 import static org.folio.entitlement.domain.model.ModuleStageContext.PARAM_MODULE_DESCRIPTOR;
 import static org.folio.entitlement.domain.model.ModuleStageContext.PARAM_MODULE_ENTITLEMENT_TYPE;
 import static org.folio.entitlement.domain.model.ModuleStageContext.PARAM_MODULE_ID;
+import static org.folio.entitlement.support.TestUtils.JACKSON3_OBJECT_MAPPER;
 import static org.folio.entitlement.support.TestValues.moduleStageContext;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.entitlement.domain.dto.EntitlementType;
+import org.folio.entitlement.domain.entity.OutboxEventEntity;
 import org.folio.entitlement.domain.model.EntitlementRequest;
 import org.folio.entitlement.integration.folio.stage.FolioModuleEventPublisher;
 import org.folio.entitlement.integration.kafka.EntitlementEventPublisher;
+import org.folio.entitlement.integration.kafka.EventOutbox;
+import org.folio.entitlement.integration.kafka.KafkaEventPublisher;
+import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
 import org.folio.entitlement.integration.kafka.model.EntitlementEvent;
+import org.folio.entitlement.repository.FlowStageRepository;
+import org.folio.entitlement.repository.OutboxEventRepository;
+import org.folio.entitlement.service.stage.ThreadLocalModuleStageContext;
+import org.folio.entitlement.utils.JsonConverter;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +62,7 @@ class FolioModuleEventPublisherTest {
 
   @InjectMocks private FolioModuleEventPublisher folioModuleEventPublisher;
   @Mock private EntitlementEventPublisher entitlementEventPublisher;
+  @Captor private ArgumentCaptor<List<OutboxEventEntity>> outboxEventsCaptor;
 
   @AfterEach
   void tearDown() {
@@ -64,7 +82,7 @@ class FolioModuleEventPublisherTest {
     folioModuleEventPublisher.execute(stageContext);
 
     var expectedEvent = new EntitlementEvent(ENTITLE.name(), MODULE_ID, tenantName, tenantId);
-    verify(entitlementEventPublisher).publish(expectedEvent);
+    verify(entitlementEventPublisher).publish(stageContext.getCurrentFlowId(), expectedEvent);
   }
 
   @Test
@@ -100,10 +118,10 @@ class FolioModuleEventPublisherTest {
     folioModuleEventPublisher.execute(stageContext);
 
     var expectedEvent = new EntitlementEvent(UPGRADE.name(), MODULE_ID, tenantName, tenantId);
-    verify(entitlementEventPublisher).publish(expectedEvent);
+    verify(entitlementEventPublisher).publish(stageContext.getCurrentFlowId(), expectedEvent);
 
     var expectedRevokeEvent = new EntitlementEvent(REVOKE.name(), installedModuleId, tenantName, tenantId);
-    verify(entitlementEventPublisher).publish(expectedRevokeEvent);
+    verify(entitlementEventPublisher).publish(stageContext.getCurrentFlowId(), expectedRevokeEvent);
   }
 
   @Test
@@ -120,13 +138,13 @@ class FolioModuleEventPublisherTest {
     folioModuleEventPublisher.execute(stageContext);
 
     var expectedEvent = new EntitlementEvent(REVOKE.name(), MODULE_ID, tenantName, tenantId);
-    verify(entitlementEventPublisher).publish(expectedEvent);
+    verify(entitlementEventPublisher).publish(stageContext.getCurrentFlowId(), expectedEvent);
   }
 
   @Test
   void execute_negative() {
     var message = "exception";
-    doThrow(new RuntimeException(message)).when(entitlementEventPublisher).publish(any(EntitlementEvent.class));
+    doThrow(new RuntimeException(message)).when(entitlementEventPublisher).publish(any(), any(EntitlementEvent.class));
 
     var request = EntitlementRequest.builder().type(ENTITLE).tenantId(randomUUID()).build();
     var desc = new ModuleDescriptor().id(MODULE_ID);
@@ -152,7 +170,7 @@ class FolioModuleEventPublisherTest {
 
     folioModuleEventPublisher.cancel(stageContext);
     var expectedEvent = new EntitlementEvent(REVOKE.name(), MODULE_ID, tenantName, tenantId);
-    verify(entitlementEventPublisher).publish(expectedEvent);
+    verify(entitlementEventPublisher).publishOnCancel(stageContext.getCurrentFlowId(), expectedEvent);
   }
 
   @Test
@@ -166,7 +184,41 @@ class FolioModuleEventPublisherTest {
     var stageContext = moduleStageContext(FLOW_ID, flowParameters, Map.of(PARAM_TENANT_NAME, tenantName));
 
     folioModuleEventPublisher.cancel(stageContext);
-    verify(entitlementEventPublisher, never()).publish(any());
+    verify(entitlementEventPublisher, never()).publishOnCancel(any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void cancel_positive_outboxKeepsEventsOrder() {
+    var tenantId = randomUUID();
+    var request = EntitlementRequest.builder().type(ENTITLE).tenantId(tenantId).build();
+    var flowParameters = Map.of(PARAM_REQUEST, request, PARAM_MODULE_ENTITLEMENT_TYPE, EntitlementType.ENTITLE,
+      PARAM_MODULE_ID, MODULE_ID, PARAM_MODULE_DESCRIPTOR, new ModuleDescriptor().id(MODULE_ID));
+    var stageContext = moduleStageContext(FLOW_ID, flowParameters, Map.of(PARAM_TENANT_NAME, "tenantName"));
+
+    var jsonConverter = new JsonConverter(JACKSON3_OBJECT_MAPPER);
+    var outboxEventRepository = mock(OutboxEventRepository.class);
+    var eventOutbox = new EventOutbox(jsonConverter, outboxEventRepository);
+    var kafkaProperties = new TenantEntitlementKafkaProperties();
+    var kafkaEventPublisher = new KafkaEventPublisher(mock(KafkaTemplate.class), kafkaProperties);
+    kafkaEventPublisher.setEventOutbox(eventOutbox);
+    var stage = new FolioModuleEventPublisher(new EntitlementEventPublisher(kafkaEventPublisher));
+    stage.setStageRepository(mock(FlowStageRepository.class));
+    stage.setThreadLocalModuleStageContext(mock(ThreadLocalModuleStageContext.class));
+    stage.setEventOutbox(eventOutbox);
+    stage.setTransactionTemplate(new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    stage.execute(stageContext);
+    stage.onSuccess(stageContext);
+    stage.cancel(stageContext);
+    stage.onCancel(stageContext);
+
+    verify(outboxEventRepository, times(2)).saveAll(outboxEventsCaptor.capture());
+    var eventTypes = outboxEventsCaptor.getAllValues().stream()
+      .flatMap(List::stream)
+      .map(entity -> jsonConverter.fromJson(entity.getPayload(), EntitlementEvent.class).getType())
+      .toList();
+    assertThat(eventTypes).containsExactly(ENTITLE.name(), REVOKE.name());
   }
 
   @Test
@@ -1,6 +1,8 @@
 package org.folio.entitlement.integration.folio;
 
-import static java.net.http.HttpResponse.BodyHandlers.ofString;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.common.utils.OkapiHeaders.TENANT;
@@ -8,28 +10,40 @@ import static org.folio.entitlement.support.TestConstants.TENANT_ID;
 import static org.folio.entitlement.support.TestConstants.TENANT_NAME;
 import static org.folio.entitlement.support.TestUtils.JACKSON3_OBJECT_MAPPER;
 import static org.folio.entitlement.support.TestUtils.asJsonString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.folio.common.domain.model.error.Parameter;
 import org.folio.entitlement.integration.IntegrationException;
 import org.folio.entitlement.integration.folio.configuration.FolioClientConfigurationProperties;
+import org.folio.entitlement.integration.folio.configuration.FolioClientConfigurationProperties.TenantJobProperties;
 import org.folio.entitlement.integration.folio.model.ModuleRequest;
 import org.folio.entitlement.integration.folio.model.TenantAttributes;
+import org.folio.entitlement.integration.folio.model.TenantJob;
 import org.folio.entitlement.support.TestUtils;
 import org.folio.entitlement.utils.JsonConverter;
 import org.folio.test.types.UnitTest;
@@ -43,6 +57,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.util.unit.DataSize;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +66,7 @@ class FolioTenantApiClientTest {
 
   private static final String MODULE_ID = "mod-test-2.1";
   private static final String MODULE_LOCATION = "http://mod-test:8081";
+  private static final String TENANT_JOB_LOCATION = "/_/tenant/job-id";
 
   @InjectMocks private FolioTenantApiClient folioTenantApiClient;
   @Mock private HttpClient httpClient;
@@ -64,9 +81,11 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void install_positive() throws IOException, InterruptedException {
+  void install_positive() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(204);
 
     var parameters = List.of(new Parameter().key("loadReference").value("true"));
@@ -77,10 +96,13 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void install_positive_statusEqualToCreated() throws IOException, InterruptedException {
+  void install_positive_statusEqualToCreated() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(201);
+    when(httpResponse.headers()).thenReturn(HttpHeaders.of(emptyMap(), (name, value) -> true));
 
     var parameters = List.of(new Parameter().key("loadReference").value("true"));
     folioTenantApiClient.install(moduleRequest(parameters));
@@ -90,9 +112,96 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void install_negative_invalidResponse() throws IOException, InterruptedException {
+  void install_positive_tenantJob() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(folioClientConfigurationProperties.getTenantJob()).thenReturn(tenantJobProperties());
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler())).thenReturn(
+      completedFuture(response(201, null, TENANT_JOB_LOCATION)),
+      completedFuture(response(200, "{\"id\":\"job-id\",\"complete\":false}", null)),
+      completedFuture(response(200, "{\"id\":\"job-id\",\"complete\":true}", null)),
+      completedFuture(response(204, null, null)));
+
+    var parameters = List.of(new Parameter().key("loadReference").value("true"));
+    folioTenantApiClient.install(moduleRequest(parameters));
+
+    var requests = httpRequestCaptor.getAllValues();
+    assertThat(requests).extracting(HttpRequest::method).containsExactly("POST", "GET", "GET", "DELETE");
+    assertThat(requests.get(1).uri()).hasToString(MODULE_LOCATION + TENANT_JOB_LOCATION + "?wait=100");
+    assertThat(requests.get(3).uri()).hasToString(MODULE_LOCATION + TENANT_JOB_LOCATION);
+    verify(jsonConverter).toJson(tenantAttributesForInstall());
+    verify(jsonConverter, times(2)).fromJson(anyString(), eq(TenantJob.class));
+  }
+
+  @Test
+  void install_positive_tenantJobWithModuleLocationPathPrefix() {
+    when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(folioClientConfigurationProperties.getTenantJob()).thenReturn(tenantJobProperties());
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler())).thenReturn(
+      completedFuture(response(201, null, TENANT_JOB_LOCATION)),
+      completedFuture(response(200, "{\"id\":\"job-id\",\"complete\":true}", null)),
+      completedFuture(response(204, null, null)));
+
+    var parameters = List.of(new Parameter().key("loadReference").value("true"));
+    folioTenantApiClient.install(moduleRequest(parameters, "http://sidecar:8082/mod-test"));
+
+    var requests = httpRequestCaptor.getAllValues();
+    assertThat(requests).extracting(HttpRequest::method).containsExactly("POST", "GET", "DELETE");
+    assertThat(requests.get(0).uri()).hasToString("http://sidecar:8082/mod-test/_/tenant");
+    assertThat(requests.get(1).uri()).hasToString("http://sidecar:8082/mod-test/_/tenant/job-id?wait=100");
+    assertThat(requests.get(2).uri()).hasToString("http://sidecar:8082/mod-test/_/tenant/job-id");
+    verify(jsonConverter).toJson(tenantAttributesForInstall());
+    verify(jsonConverter).fromJson(anyString(), eq(TenantJob.class));
+  }
+
+  @Test
+  void install_negative_tenantJobFailed() {
+    when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(folioClientConfigurationProperties.getTenantJob()).thenReturn(tenantJobProperties());
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler())).thenReturn(
+      completedFuture(response(201, null, TENANT_JOB_LOCATION)),
+      completedFuture(response(200, "{\"id\":\"job-id\",\"complete\":true,\"error\":\"failed\"}", null)),
+      completedFuture(response(204, null, null)));
+
+    var parameters = List.of(new Parameter().key("loadReference").value("true"));
+    var moduleRequest = moduleRequest(parameters);
+    assertThatThrownBy(() -> folioTenantApiClient.install(moduleRequest))
+      .isInstanceOf(IntegrationException.class)
+      .hasMessage("Failed to perform doPostTenant call")
+      .satisfies(e -> assertThat(((IntegrationException) e).getErrors())
+        .containsExactly(new Parameter().key("cause").value("failed")));
+
+    verify(jsonConverter).toJson(tenantAttributesForInstall());
+    verify(jsonConverter).fromJson(anyString(), eq(TenantJob.class));
+  }
+
+  @Test
+  void install_negative_tenantJobStatusNotFound() {
+    when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(folioClientConfigurationProperties.getTenantJob()).thenReturn(tenantJobProperties());
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler())).thenReturn(
+      completedFuture(response(201, null, TENANT_JOB_LOCATION)),
+      completedFuture(response(404, "Job not found", null)));
+
+    var parameters = List.of(new Parameter().key("loadReference").value("true"));
+    var moduleRequest = moduleRequest(parameters);
+    assertThatThrownBy(() -> folioTenantApiClient.install(moduleRequest))
+      .isInstanceOf(IntegrationException.class)
+      .hasMessage("Failed to get tenant job status")
+      .extracting(e -> ((IntegrationException) e).getCauseHttpStatus()).isEqualTo(404);
+
+    verify(jsonConverter).toJson(tenantAttributesForInstall());
+  }
+
+  @Test
+  void install_negative_invalidResponse() {
+    when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(500);
     when(httpResponse.body()).thenReturn("Failed to install tenant");
 
@@ -108,9 +217,11 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void install_negative_ioException() throws IOException, InterruptedException {
+  void install_negative_ioException() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenThrow(IOException.class);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(failedFuture(new IOException()));
 
     var parameters = List.of(new Parameter().key("loadReference").value("true"));
     var moduleRequest = moduleRequest(parameters);
@@ -123,24 +234,30 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void install_negative_interruptedException() throws IOException, InterruptedException {
+  void install_negative_interruptedException() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenThrow(InterruptedException.class);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(new CompletableFuture<>());
+    Thread.currentThread().interrupt();
 
     var parameters = List.of(new Parameter().key("loadReference").value("true"));
     var moduleRequest = moduleRequest(parameters);
     assertThatThrownBy(() -> folioTenantApiClient.install(moduleRequest))
       .isInstanceOf(IntegrationException.class)
       .hasMessage("Request has been interrupted [method: POST, uri: http://mod-test:8081/_/tenant]");
+    assertThat(Thread.interrupted()).isTrue();
 
     verifyHttpRequest(installRequest(), httpRequestCaptor.getValue(), 82);
     verify(jsonConverter).toJson(tenantAttributesForInstall());
   }
 
   @Test
-  void uninstall_positive() throws IOException, InterruptedException {
+  void uninstall_positive() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(204);
 
     var moduleRequest = moduleRequest(true);
@@ -151,9 +268,11 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void uninstallLegacy_positive() throws IOException, InterruptedException {
+  void uninstallLegacy_positive() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(204);
 
     folioTenantApiClient.uninstallLegacy(moduleRequest(false));
@@ -163,9 +282,11 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void disableLegacy_positive() throws IOException, InterruptedException {
+  void disableLegacy_positive() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(204);
 
     folioTenantApiClient.disableLegacy(moduleRequest(false));
@@ -175,9 +296,11 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void uninstall_negative_invalidResponse() throws IOException, InterruptedException {
+  void uninstall_negative_invalidResponse() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenReturn(httpResponse);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(completedFuture(httpResponse));
     when(httpResponse.statusCode()).thenReturn(500);
     when(httpResponse.body()).thenReturn("Failed to install tenant");
 
@@ -192,9 +315,11 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void uninstall_negative_ioException() throws IOException, InterruptedException {
+  void uninstall_negative_ioException() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenThrow(IOException.class);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(failedFuture(new IOException()));
 
     var moduleRequest = moduleRequest(true);
     assertThatThrownBy(() -> folioTenantApiClient.uninstall(moduleRequest))
@@ -206,19 +331,44 @@ class FolioTenantApiClientTest {
   }
 
   @Test
-  void uninstall_negative_interruptedException() throws IOException, InterruptedException {
+  void uninstall_negative_interruptedException() {
     when(folioClientConfigurationProperties.getReadTimeout()).thenReturn(Duration.ofSeconds(1));
-    when(httpClient.send(httpRequestCaptor.capture(), eq(ofString()))).thenThrow(InterruptedException.class);
+    when(folioClientConfigurationProperties.getMaxErrorBodySize()).thenReturn(DataSize.ofKilobytes(64));
+    when(httpClient.sendAsync(httpRequestCaptor.capture(), anyBodyHandler()))
+      .thenReturn(new CompletableFuture<>());
+    Thread.currentThread().interrupt();
 
     var moduleRequest = moduleRequest(true);
     assertThatThrownBy(() -> folioTenantApiClient.uninstall(moduleRequest))
       .isInstanceOf(IntegrationException.class)
       .hasMessage("Request has been interrupted [method: POST, uri: http://mod-test:8081/_/tenant]");
+    assertThat(Thread.interrupted()).isTrue();
 
     verifyHttpRequest(uninstallRequest(), httpRequestCaptor.getValue(), 43);
     verify(jsonConverter).toJson(tenantAttributesForUninstall());
   }
 
+  private static BodyHandler<String> anyBodyHandler() {
+    return any();
+  }
+
+  private static TenantJobProperties tenantJobProperties() {
+    var tenantJob = new TenantJobProperties();
+    tenantJob.setPollWait(Duration.ofMillis(100));
+    tenantJob.setPollDelay(Duration.ofMillis(1));
+    return tenantJob;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static HttpResponse<String> response(int status, String body, String location) {
+    var response = (HttpResponse<String>) mock(HttpResponse.class, withSettings().strictness(Strictness.LENIENT));
+    var headers = location == null ? Map.<String, List<String>>of() : Map.of(LOCATION, List.of(location));
+    when(response.statusCode()).thenReturn(status);
+    when(response.body()).thenReturn(body);
+    when(response.headers()).thenReturn(HttpHeaders.of(headers, (name, value) -> true));
+    return response;
+  }
+
   private static HttpRequest installRequest() {
     return HttpRequest.newBuilder()
       .uri(URI.create("http://mod-test:8081/_/tenant"))
@@ -293,10 +443,18 @@ class FolioTenantApiClientTest {
     return moduleRequest(false, parameters);
   }
 
+  private static ModuleRequest moduleRequest(List<Parameter> parameters, String location) {
+    return moduleRequest(false, parameters, location);
+  }
+
   private static ModuleRequest moduleRequest(boolean purge, List<Parameter> parameters) {
+    return moduleRequest(purge, parameters, MODULE_LOCATION);
+  }
+
+  private static ModuleRequest moduleRequest(boolean purge, List<Parameter> parameters, String location) {
     return ModuleRequest.builder()
       .moduleId(MODULE_ID)
-      .location(MODULE_LOCATION)
+      .location(location)
       .tenantId(TENANT_ID)
       .tenantName(TENANT_NAME)
       .purge(purge)
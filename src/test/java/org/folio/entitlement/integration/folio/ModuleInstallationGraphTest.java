@@ -9,6 +9,7 @@ import static org.folio.entitlement.support.TestConstants.APPLICATION_ID;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.folio.common.domain.model.ApplicationDescriptor;
 import org.folio.common.domain.model.InterfaceDescriptor;
@@ -55,6 +56,20 @@ class ModuleInstallationGraphTest {
     assertThat(result).isEqualTo(List.of(List.of("m2"), List.of("m1")));
   }
 
+  @Test
+  void getInstallationSequence_positive_largeCircularDependency() {
+    var modulesCount = 10_000;
+    var moduleDescriptors = IntStream.range(0, modulesCount)
+      .mapToObj(i -> module("m" + i, List.of("m" + i + "-api"), List.of("m" + (i + 1) % modulesCount + "-api")))
+      .toList();
+
+    var moduleInstallationGraph = new ModuleInstallationGraph(moduleDescriptors, ENTITLE);
+    var result = moduleInstallationGraph.getInstallationSequence();
+
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0)).hasSize(modulesCount);
+  }
+
   private static Stream<Arguments> applicationDescriptorDataProvider() {
     return Stream.of(
       arguments("empty modules", new ApplicationDescriptor(), emptyList()),
@@ -166,6 +181,14 @@ class ModuleInstallationGraphTest {
           module("m3", List.of("m3-int"), List.of("m1-int", "m2-int"))),
         List.of(List.of("m1", "m2"), List.of("m3"))),
 
+      arguments("Dependent modules[major versions] (m1 <- m3, m2 <- m4)", ENTITLE,
+        List.of(
+          module("m1", new InterfaceDescriptor("int", "1.0"), null),
+          module("m2", new InterfaceDescriptor("int", "2.1"), null),
+          module("m3", new InterfaceDescriptor("m3-int", "1.0"), InterfaceReference.of("int", "1.0")),
+          module("m4", new InterfaceDescriptor("m4-int", "1.0"), InterfaceReference.of("int", "2.0"))),
+        List.of(List.of("m1", "m2"), List.of("m3", "m4"))),
+
       arguments("Dependent modules[self-reference] (m1 <- m2 <- m2)", ENTITLE,
         List.of(
           module("m1", List.of("m1-int")),
@@ -209,6 +232,16 @@ class ModuleInstallationGraphTest {
           module("m5", List.of("m5-api"), List.of("m3-api"))),
         List.of(List.of("m1"), List.of("m2", "m3", "m4"), List.of("m5"))),
 
+      arguments("Circular dependency without outside dependencies [m1 <- m2 <- m3, m4 <-> m5 <- m6]", ENTITLE,
+        List.of(
+          module("m1", List.of("m1-api")),
+          module("m2", List.of("m2-api"), List.of("m1-api")),
+          module("m3", List.of("m3-api"), List.of("m2-api")),
+          module("m4", List.of("m4-api"), List.of("m5-api")),
+          module("m5", List.of("m5-api"), List.of("m4-api")),
+          module("m6", List.of("m6-api"), List.of("m5-api"))),
+        List.of(List.of("m1"), List.of("m2", "m4", "m5"), List.of("m3", "m6"))),
+
       arguments("Two circular dependencies [m1 <- (m2 <-> m3, m4 <-> m5) <- m6]", ENTITLE,
         List.of(
           module("m1", List.of("m1-api")),
@@ -268,4 +301,11 @@ class ModuleInstallationGraphTest {
       .provides(mapItems(provides, name -> new InterfaceDescriptor(name, "1.0")))
       .requires(mapItems(requires, name -> InterfaceReference.of(name, "1.0")));
   }
+
+  private static ModuleDescriptor module(String id, InterfaceDescriptor provides, InterfaceReference requires) {
+    return new ModuleDescriptor()
+      .id(id)
+      .provides(List.of(provides))
+      .requires(requires == null ? emptyList() : List.of(requires));
+  }
 }
@@ -0,0 +1,67 @@
+package org.folio.entitlement.integration.folio;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entitlement.integration.folio.TenantApiBodyHandlers.TRUNCATED_BODY_SUFFIX;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.Flow.Subscription;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TenantApiBodyHandlersTest {
+
+  @Test
+  void ofErrorBody_positive_successfulResponseBodyIsDiscarded() {
+    var subscriber = apply(TenantApiBodyHandlers.ofErrorBody(16), 204);
+    assertThat(readBody(subscriber, "response body")).isNull();
+  }
+
+  @Test
+  void ofErrorBody_positive_errorResponseBody() {
+    var subscriber = apply(TenantApiBodyHandlers.ofErrorBody(16), 500);
+    assertThat(readBody(subscriber, "Failed", " to install")).isEqualTo("Failed to install");
+  }
+
+  @Test
+  void ofErrorBody_positive_errorResponseBodyIsTruncated() {
+    var subscriber = apply(TenantApiBodyHandlers.ofErrorBody(10), 500);
+    var result = readBody(subscriber, "Failed to install", " tenant for module");
+    assertThat(result).isEqualTo("Failed to " + TRUNCATED_BODY_SUFFIX);
+  }
+
+  @Test
+  void ofStringOrErrorBody_positive_successfulResponseBodyIsNotTruncated() {
+    var subscriber = apply(TenantApiBodyHandlers.ofStringOrErrorBody(4), 200);
+    assertThat(readBody(subscriber, "{\"id\":\"job-id\"}")).isEqualTo("{\"id\":\"job-id\"}");
+  }
+
+  @Test
+  void ofStringOrErrorBody_positive_errorResponseBodyIsTruncated() {
+    var subscriber = apply(TenantApiBodyHandlers.ofStringOrErrorBody(3), 404);
+    assertThat(readBody(subscriber, "Job not found")).isEqualTo("Job" + TRUNCATED_BODY_SUFFIX);
+  }
+
+  private static BodySubscriber<String> apply(BodyHandler<String> bodyHandler, int statusCode) {
+    var responseInfo = mock(ResponseInfo.class);
+    when(responseInfo.statusCode()).thenReturn(statusCode);
+    return bodyHandler.apply(responseInfo);
+  }
+
+  private static String readBody(BodySubscriber<String> subscriber, String... chunks) {
+    subscriber.onSubscribe(mock(Subscription.class));
+    for (var chunk : chunks) {
+      subscriber.onNext(List.of(ByteBuffer.wrap(chunk.getBytes(UTF_8))));
+    }
+
+    subscriber.onComplete();
+    return subscriber.getBody().toCompletableFuture().join();
+  }
+}
@@ -30,13 +30,17 @@ import static org.folio.entitlement.support.TestValues.moduleStageContext;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.entitlement.domain.model.EntitlementRequest;
 import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
@@ -84,7 +88,8 @@ class CapabilitiesModuleEventPublisherTest {
     var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, contextData);
 
     var topicName = capabilitiesTenantTopic();
-    doNothing().when(kafkaEventPublisher).send(eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
+    doNothing().when(kafkaEventPublisher)
+      .send(eq(stageContext.getCurrentFlowId()), eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
     when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(false);
 
     moduleEventPublisher.execute(stageContext);
@@ -104,7 +109,8 @@ class CapabilitiesModuleEventPublisherTest {
     var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, contextData);
 
     var topicName = capabilitiesTenantCollectionTopic();
-    doNothing().when(kafkaEventPublisher).send(eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
+    doNothing().when(kafkaEventPublisher)
+      .send(eq(stageContext.getCurrentFlowId()), eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
     when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(true);
 
     moduleEventPublisher.execute(stageContext);
@@ -113,6 +119,51 @@ class CapabilitiesModuleEventPublisherTest {
     assertThat(messageKeyCaptor.getAllValues()).containsOnly(TENANT_NAME);
   }
 
+  @Test
+  void execute_positive_payloadIsReusedForTenants() {
+    var descriptor = readModuleDescriptor("json/events/capabilities/be-module-desc.json");
+    var flowParameters = moduleFlowParameters(entitlementRequest(), descriptor);
+    var firstContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, Map.of(PARAM_TENANT_NAME, "tenant1"));
+    var secondContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, Map.of(PARAM_TENANT_NAME, "tenant2"));
+
+    var topicName = capabilitiesTenantCollectionTopic();
+    doNothing().when(kafkaEventPublisher)
+      .send(eq(APPLICATION_FLOW_ID), eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
+    when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(true);
+
+    moduleEventPublisher.execute(firstContext);
+    moduleEventPublisher.execute(secondContext);
+
+    var events = eventCaptor.getAllValues();
+    assertThat(events).hasSize(2);
+    assertThat(events.get(0).getNewValue()).isSameAs(events.get(1).getNewValue());
+    assertThat(messageKeyCaptor.getAllValues()).containsExactly("tenant1", "tenant2");
+  }
+
+  @Test
+  void execute_positive_eventIsChunked() {
+    var capabilityEventChunker = mock(CapabilityEventChunker.class);
+    moduleEventPublisher.setCapabilityEventChunker(capabilityEventChunker);
+
+    var descriptor = readModuleDescriptor("json/events/capabilities/be-module-desc.json");
+    var flowParameters = moduleFlowParameters(entitlementRequest(), descriptor);
+    var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, Map.of(PARAM_TENANT_NAME, TENANT_NAME));
+    var topicName = capabilitiesTenantTopic();
+    var firstChunk = new ProducerRecord<String, Object>(topicName, TENANT_NAME, "chunk-1");
+    var secondChunk = new ProducerRecord<String, Object>(topicName, TENANT_NAME, "chunk-2");
+
+    when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(false);
+    when(capabilityEventChunker.split(eq(topicName), eq(TENANT_NAME), eventCaptor.capture()))
+      .thenReturn(List.of(firstChunk, secondChunk));
+
+    moduleEventPublisher.execute(stageContext);
+
+    assertThat(eventCaptor.getValue().getNewValue().getModuleId()).isEqualTo(descriptor.getId());
+    verify(kafkaEventPublisher).send(APPLICATION_FLOW_ID, firstChunk);
+    verify(kafkaEventPublisher).send(APPLICATION_FLOW_ID, secondChunk);
+    verifyNoMoreInteractions(capabilityEventChunker);
+  }
+
   @Test
   void execute_positive_noEventsPublished() {
     var request = entitlementRequest();
@@ -142,7 +193,8 @@ class CapabilitiesModuleEventPublisherTest {
     var stageContext = moduleStageContext(FLOW_ID, flowParameters, Map.of(PARAM_TENANT_NAME, TENANT_NAME));
 
     var topicName = capabilitiesTenantTopic();
-    doNothing().when(kafkaEventPublisher).send(eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
+    doNothing().when(kafkaEventPublisher)
+      .send(eq(stageContext.getCurrentFlowId()), eq(topicName), messageKeyCaptor.capture(), eventCaptor.capture());
     when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(false);
 
     moduleEventPublisher.execute(stageContext);
@@ -0,0 +1,128 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entitlement.integration.kafka.CapabilityEventChunker.CHUNK_CORRELATION_ID_HEADER;
+import static org.folio.entitlement.integration.kafka.CapabilityEventChunker.CHUNK_COUNT_HEADER;
+import static org.folio.entitlement.integration.kafka.CapabilityEventChunker.CHUNK_INDEX_HEADER;
+import static org.folio.entitlement.integration.kafka.KafkaEventUtils.CAPABILITY_RESOURCE_NAME;
+import static org.folio.entitlement.integration.kafka.model.ModuleType.MODULE;
+import static org.folio.entitlement.support.TestConstants.APPLICATION_ID;
+import static org.folio.entitlement.support.TestConstants.TENANT_NAME;
+import static org.folio.entitlement.support.TestUtils.JACKSON3_OBJECT_MAPPER;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.folio.common.domain.model.Permission;
+import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
+import org.folio.entitlement.integration.kafka.model.CapabilityEventPayload;
+import org.folio.entitlement.integration.kafka.model.Endpoint;
+import org.folio.entitlement.integration.kafka.model.FolioResource;
+import org.folio.entitlement.utils.JsonConverter;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+@UnitTest
+class CapabilityEventChunkerTest {
+
+  private static final String TOPIC = "test-topic";
+  private static final String MODULE_ID = "mod-foo-1.0.0";
+
+  private final TenantEntitlementKafkaProperties properties = new TenantEntitlementKafkaProperties();
+  private CapabilityEventChunker chunker;
+
+  @BeforeEach
+  void setUp() {
+    properties.getCapabilityChunking().setMaxSize(DataSize.ofBytes(1024));
+    chunker = new CapabilityEventChunker(new JsonConverter(JACKSON3_OBJECT_MAPPER), properties);
+  }
+
+  @Test
+  void split_positive_smallEvent() {
+    var event = capabilityEvent(payload(2), null);
+
+    var result = chunker.split(TOPIC, TENANT_NAME, event);
+
+    assertThat(result).containsExactly(new ProducerRecord<>(TOPIC, TENANT_NAME, event));
+  }
+
+  @Test
+  void split_positive_largeCreateEvent() {
+    var payload = payload(50);
+    var event = capabilityEvent(payload, null);
+
+    var result = chunker.split(TOPIC, TENANT_NAME, event);
+
+    assertThat(result).hasSizeGreaterThan(1);
+    var correlationId = headerValue(result.getFirst(), CHUNK_CORRELATION_ID_HEADER);
+    for (int i = 0; i < result.size(); i++) {
+      var producerRecord = result.get(i);
+      assertThat(producerRecord.topic()).isEqualTo(TOPIC);
+      assertThat(producerRecord.key()).isEqualTo(TENANT_NAME);
+      assertThat(headerValue(producerRecord, CHUNK_INDEX_HEADER)).isEqualTo(String.valueOf(i));
+      assertThat(headerValue(producerRecord, CHUNK_COUNT_HEADER)).isEqualTo(String.valueOf(result.size()));
+      assertThat(headerValue(producerRecord, CHUNK_CORRELATION_ID_HEADER)).isEqualTo(correlationId);
+    }
+
+    var chunkedResources = result.stream()
+      .map(producerRecord -> chunkEvent(producerRecord).getNewValue().getResources())
+      .flatMap(List::stream)
+      .toList();
+    assertThat(chunkedResources).isEqualTo(payload.getResources());
+  }
+
+  @Test
+  void split_positive_largeDeleteEvent() {
+    var payload = payload(50);
+    var event = capabilityEvent(null, payload);
+
+    var result = chunker.split(TOPIC, TENANT_NAME, event);
+
+    assertThat(result).hasSizeGreaterThan(1);
+    assertThat(result).allSatisfy(producerRecord -> {
+      assertThat(chunkEvent(producerRecord).getNewValue()).isNull();
+      assertThat(chunkEvent(producerRecord).getOldValue().getModuleId()).isEqualTo(MODULE_ID);
+    });
+  }
+
+  @Test
+  void split_positive_largeUpdateEventIsNotSplit() {
+    var event = capabilityEvent(payload(50), payload(40));
+
+    var result = chunker.split(TOPIC, TENANT_NAME, event);
+
+    assertThat(result).containsExactly(new ProducerRecord<>(TOPIC, TENANT_NAME, event));
+  }
+
+  private static CapabilityEventPayload payload(int resourcesCount) {
+    var resources = IntStream.range(0, resourcesCount)
+      .mapToObj(i -> FolioResource.of(permission("foo.item." + i + ".get"), List.of(Endpoint.of("/foo/" + i, "GET"))))
+      .toList();
+
+    return CapabilityEventPayload.of(MODULE_ID, MODULE, APPLICATION_ID, resources);
+  }
+
+  private static Permission permission(String permissionName) {
+    var permission = new Permission();
+    permission.setPermissionName(permissionName);
+    return permission;
+  }
+
+  private static ResourceEvent<CapabilityEventPayload> capabilityEvent(CapabilityEventPayload newPayload,
+    CapabilityEventPayload oldPayload) {
+    return KafkaEventUtils.createEvent(CAPABILITY_RESOURCE_NAME, TENANT_NAME, newPayload, oldPayload).orElseThrow();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ResourceEvent<CapabilityEventPayload> chunkEvent(ProducerRecord<String, Object> producerRecord) {
+    return (ResourceEvent<CapabilityEventPayload>) producerRecord.value();
+  }
+
+  private static String headerValue(ProducerRecord<String, Object> producerRecord, String name) {
+    return new String(producerRecord.headers().lastHeader(name).value(), UTF_8);
+  }
+}
@@ -3,6 +3,8 @@ package org.folio.entitlement.integration.kafka;
 import static org.folio.common.utils.OkapiHeaders.MODULE_ID;
 import static org.folio.common.utils.OkapiHeaders.TENANT;
 import static org.folio.entitlement.domain.dto.EntitlementType.ENTITLE;
+import static org.folio.entitlement.domain.dto.EntitlementType.REVOKE;
+import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
 import static org.folio.entitlement.support.TestConstants.TENANT_ID;
 import static org.mockito.Mockito.verify;
 
@@ -36,9 +38,16 @@ class EntitlementEventPublisherTest {
   }
 
   @Test
-  void publish_positive() {
+  void publishOnCancel_positive() {
+    var event = new EntitlementEvent(REVOKE.name(), MODULE_ID, TENANT, TENANT_ID);
+    entitlementEventPublisher.publishOnCancel(APPLICATION_FLOW_ID, event);
+    verify(kafkaEventPublisher).sendOnCancel(APPLICATION_FLOW_ID, "tst.entitlement", TENANT + "_" + MODULE_ID, event);
+  }
+
+  @Test
+  void publish_positive_applicationFlow() {
     var event = new EntitlementEvent(ENTITLE.name(), MODULE_ID, TENANT, TENANT_ID);
-    entitlementEventPublisher.publish(event);
-    verify(kafkaEventPublisher).send("tst.entitlement", TENANT + "_" + MODULE_ID, event);
+    entitlementEventPublisher.publish(APPLICATION_FLOW_ID, event);
+    verify(kafkaEventPublisher).send(APPLICATION_FLOW_ID, "tst.entitlement", TENANT + "_" + MODULE_ID, event);
   }
 }
@@ -0,0 +1,117 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.entitlement.integration.kafka.EventOutboxRelay.OUTBOX_LOCK_ID;
+import static org.folio.entitlement.support.TestUtils.JACKSON3_OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.folio.entitlement.domain.entity.OutboxEventEntity;
+import org.folio.entitlement.integration.IntegrationException;
+import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
+import org.folio.entitlement.repository.OutboxEventRepository;
+import org.folio.entitlement.support.TestUtils;
+import org.folio.entitlement.utils.JsonConverter;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EventOutboxRelayTest {
+
+  private static final String TOPIC = "test-topic";
+  private static final String KEY = "test-key";
+  private static final int BATCH_SIZE = 500;
+
+  private EventOutboxRelay eventOutboxRelay;
+  private final TenantEntitlementKafkaProperties properties = new TenantEntitlementKafkaProperties();
+
+  @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+  @Mock private OutboxEventRepository outboxEventRepository;
+  @Captor private ArgumentCaptor<ProducerRecord<String, Object>> producerRecordCaptor;
+
+  @BeforeEach
+  void setUp() {
+    properties.setSendDurationTimeout(Duration.ofSeconds(1));
+    var jsonConverter = new JsonConverter(JACKSON3_OBJECT_MAPPER);
+    eventOutboxRelay = new EventOutboxRelay(jsonConverter, kafkaTemplate, outboxEventRepository, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void relay_positive() {
+    var events = List.of(outboxEvent(1L, null), outboxEvent(2L, "{\"test-header\":\"value\"}"));
+    when(outboxEventRepository.tryLock(OUTBOX_LOCK_ID)).thenReturn(true);
+    when(outboxEventRepository.findBatch(BATCH_SIZE)).thenReturn(events);
+    when(kafkaTemplate.send(producerRecordCaptor.capture())).thenReturn(completedFuture(new SendResult<>(null, null)));
+
+    eventOutboxRelay.relay();
+
+    verify(outboxEventRepository).deleteAllInBatch(events);
+    var producerRecords = producerRecordCaptor.getAllValues();
+    assertThat(producerRecords).hasSize(2);
+    assertThat(producerRecords.get(0).topic()).isEqualTo(TOPIC);
+    assertThat(producerRecords.get(0).key()).isEqualTo(KEY);
+    assertThat(producerRecords.get(0).value()).hasToString("{\"field\":\"value\"}");
+    assertThat(producerRecords.get(0).headers()).isEmpty();
+    var header = producerRecords.get(1).headers().lastHeader("test-header");
+    assertThat(new String(header.value(), UTF_8)).isEqualTo("value");
+  }
+
+  @Test
+  void relay_positive_lockNotAcquired() {
+    when(outboxEventRepository.tryLock(OUTBOX_LOCK_ID)).thenReturn(false);
+
+    eventOutboxRelay.relay();
+  }
+
+  @Test
+  void relay_positive_noEvents() {
+    when(outboxEventRepository.tryLock(OUTBOX_LOCK_ID)).thenReturn(true);
+    when(outboxEventRepository.findBatch(BATCH_SIZE)).thenReturn(List.of());
+
+    eventOutboxRelay.relay();
+  }
+
+  @Test
+  void relay_negative_sendFailed() {
+    when(outboxEventRepository.tryLock(OUTBOX_LOCK_ID)).thenReturn(true);
+    when(outboxEventRepository.findBatch(BATCH_SIZE)).thenReturn(List.of(outboxEvent(1L, null)));
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failedFuture(new RuntimeException("error")));
+
+    assertThatThrownBy(() -> eventOutboxRelay.relay())
+      .isInstanceOf(IntegrationException.class)
+      .hasMessage("Failed to send outbox events");
+  }
+
+  private static OutboxEventEntity outboxEvent(Long id, String headers) {
+    var entity = new OutboxEventEntity();
+    entity.setId(id);
+    entity.setTopic(TOPIC);
+    entity.setMessageKey(KEY);
+    entity.setPayload("{\"field\":\"value\"}");
+    entity.setHeaders(headers);
+    return entity;
+  }
+}
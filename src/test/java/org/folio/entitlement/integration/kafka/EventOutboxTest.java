@@ -0,0 +1,80 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entitlement.support.TestUtils.JACKSON3_OBJECT_MAPPER;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.folio.entitlement.domain.entity.OutboxEventEntity;
+import org.folio.entitlement.repository.OutboxEventRepository;
+import org.folio.entitlement.support.TestUtils;
+import org.folio.entitlement.utils.JsonConverter;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class EventOutboxTest {
+
+  private static final String TOPIC = "test-topic";
+  private static final String KEY = "test-key";
+
+  private EventOutbox eventOutbox;
+  @Mock private OutboxEventRepository outboxEventRepository;
+  @Captor private ArgumentCaptor<List<OutboxEventEntity>> entitiesCaptor;
+
+  @BeforeEach
+  void setUp() {
+    eventOutbox = new EventOutbox(new JsonConverter(JACKSON3_OBJECT_MAPPER), outboxEventRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventOutbox.discard();
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void store_positive() {
+    var headers = new RecordHeaders(List.of(new RecordHeader("test-header", "value".getBytes(UTF_8))));
+    eventOutbox.add(new ProducerRecord<>(TOPIC, KEY, Map.of("field", "value1")));
+    eventOutbox.add(new ProducerRecord<>(TOPIC, null, KEY, Map.of("field", "value2"), headers));
+
+    eventOutbox.store();
+
+    verify(outboxEventRepository).saveAll(entitiesCaptor.capture());
+    var entities = entitiesCaptor.getValue();
+    assertThat(entities).hasSize(2);
+    assertThat(entities.get(0).getTopic()).isEqualTo(TOPIC);
+    assertThat(entities.get(0).getMessageKey()).isEqualTo(KEY);
+    assertThat(entities.get(0).getPayload()).isEqualTo("{\"field\":\"value1\"}");
+    assertThat(entities.get(0).getHeaders()).isNull();
+    assertThat(entities.get(1).getPayload()).isEqualTo("{\"field\":\"value2\"}");
+    assertThat(entities.get(1).getHeaders()).isEqualTo("{\"test-header\":\"value\"}");
+  }
+
+  @Test
+  void store_positive_noEvents() {
+    eventOutbox.store();
+  }
+
+  @Test
+  void store_positive_eventsDiscarded() {
+    eventOutbox.add(new ProducerRecord<>(TOPIC, KEY, Map.of("field", "value")));
+    eventOutbox.discard();
+
+    eventOutbox.store();
+  }
+}
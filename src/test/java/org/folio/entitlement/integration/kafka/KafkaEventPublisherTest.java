@@ -0,0 +1,166 @@
+package org.folio.entitlement.integration.kafka;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.folio.entitlement.integration.IntegrationException;
+import org.folio.entitlement.integration.kafka.configuration.TenantEntitlementKafkaProperties;
+import org.folio.entitlement.support.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KafkaEventPublisherTest {
+
+  private static final String TOPIC = "test-topic";
+  private static final String KEY = "test-key";
+  private static final String EVENT = "test-event";
+
+  @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+
+  private KafkaEventPublisher kafkaEventPublisher;
+  private final TenantEntitlementKafkaProperties properties = new TenantEntitlementKafkaProperties();
+
+  @BeforeEach
+  void setUp() {
+    properties.setSendDurationTimeout(Duration.ofSeconds(1));
+    kafkaEventPublisher = new KafkaEventPublisher(kafkaTemplate, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void send_positive() {
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(completedFuture(new SendResult<>(null, null)));
+
+    kafkaEventPublisher.send(TOPIC, KEY, EVENT);
+
+    verify(kafkaTemplate).send(TOPIC, KEY, EVENT);
+  }
+
+  @Test
+  void send_negative_sendFailed() {
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(failedFuture(new RuntimeException("error")));
+
+    assertThatThrownBy(() -> kafkaEventPublisher.send(TOPIC, KEY, EVENT))
+      .isInstanceOf(IntegrationException.class)
+      .hasMessage("Failed to send event");
+  }
+
+  @Test
+  void send_positive_asyncPublishingDisabled() {
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(failedFuture(new RuntimeException("error")));
+
+    assertThatThrownBy(() -> kafkaEventPublisher.send(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT))
+      .isInstanceOf(IntegrationException.class)
+      .hasMessage("Failed to send event");
+  }
+
+  @Test
+  void flush_positive_asyncPublishingEnabled() {
+    properties.setAsyncPublishingEnabled(true);
+    var future = new CompletableFuture<SendResult<String, Object>>();
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(future);
+
+    kafkaEventPublisher.send(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT);
+    future.complete(new SendResult<>(null, null));
+    kafkaEventPublisher.flush(APPLICATION_FLOW_ID);
+
+    verify(kafkaTemplate).send(TOPIC, KEY, EVENT);
+  }
+
+  @Test
+  void flush_positive_producerRecord() {
+    properties.setAsyncPublishingEnabled(true);
+    var producerRecord = new ProducerRecord<String, Object>(TOPIC, KEY, EVENT);
+    when(kafkaTemplate.send(producerRecord)).thenReturn(completedFuture(new SendResult<>(null, null)));
+
+    kafkaEventPublisher.send(APPLICATION_FLOW_ID, producerRecord);
+    kafkaEventPublisher.flush(APPLICATION_FLOW_ID);
+
+    verify(kafkaTemplate).send(producerRecord);
+  }
+
+  @Test
+  void flush_negative_sendFailed() {
+    properties.setAsyncPublishingEnabled(true);
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(failedFuture(new RuntimeException("error")));
+
+    kafkaEventPublisher.send(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT);
+
+    assertThatThrownBy(() -> kafkaEventPublisher.flush(APPLICATION_FLOW_ID))
+      .isInstanceOf(IntegrationException.class)
+      .hasMessage("Failed to send event");
+  }
+
+  @Test
+  void flush_positive_eventsDiscarded() {
+    properties.setAsyncPublishingEnabled(true);
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(failedFuture(new RuntimeException("error")));
+
+    kafkaEventPublisher.send(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT);
+    kafkaEventPublisher.discard(APPLICATION_FLOW_ID);
+    kafkaEventPublisher.flush(APPLICATION_FLOW_ID);
+
+    verify(kafkaTemplate).send(TOPIC, KEY, EVENT);
+  }
+
+  @Test
+  void send_positive_outboxEnabled() {
+    var eventOutbox = mock(EventOutbox.class);
+    kafkaEventPublisher.setEventOutbox(eventOutbox);
+
+    kafkaEventPublisher.send(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT);
+
+    verify(eventOutbox).add(new ProducerRecord<>(TOPIC, KEY, EVENT));
+  }
+
+  @Test
+  void send_positive_outboxEnabledWithoutApplicationFlow() {
+    var eventOutbox = mock(EventOutbox.class);
+    kafkaEventPublisher.setEventOutbox(eventOutbox);
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(completedFuture(new SendResult<>(null, null)));
+
+    kafkaEventPublisher.send(TOPIC, KEY, EVENT);
+
+    verify(kafkaTemplate).send(TOPIC, KEY, EVENT);
+  }
+
+  @Test
+  void sendOnCancel_positive() {
+    when(kafkaTemplate.send(TOPIC, KEY, EVENT)).thenReturn(completedFuture(new SendResult<>(null, null)));
+
+    kafkaEventPublisher.sendOnCancel(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT);
+
+    verify(kafkaTemplate).send(TOPIC, KEY, EVENT);
+  }
+
+  @Test
+  void sendOnCancel_positive_outboxEnabled() {
+    var eventOutbox = mock(EventOutbox.class);
+    kafkaEventPublisher.setEventOutbox(eventOutbox);
+
+    kafkaEventPublisher.sendOnCancel(APPLICATION_FLOW_ID, TOPIC, KEY, EVENT);
+
+    verify(eventOutbox).add(new ProducerRecord<>(TOPIC, KEY, EVENT));
+  }
+}
@@ -2,7 +2,6 @@ package org.folio.entitlement.integration.kafka;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
-import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.entitlement.domain.dto.EntitlementRequestType.ENTITLE;
 import static org.folio.entitlement.domain.model.CommonStageContext.PARAM_REQUEST;
@@ -15,6 +14,7 @@ import static org.folio.entitlement.support.TestValues.commonStageContext;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +40,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaAdmin;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +51,7 @@ class KafkaTenantTopicCreatorTest {
   private static final String TEST_TENANT_COLLECTION_TOPIC = "folio.ALL.test-topic";
 
   @InjectMocks private KafkaTenantTopicCreator topicCreator;
+  @Mock private KafkaAdmin kafkaAdmin;
   @Mock private KafkaAdminService kafkaAdminService;
   @Spy private final TenantEntitlementKafkaProperties tenantEntitlementKafkaProperties = tenantTopicProperties();
 
@@ -76,7 +78,7 @@ class KafkaTenantTopicCreatorTest {
 
     assertThat(stageContext.<Boolean>get(KAFKA_TENANT_TOPIC_CREATOR_CREATED)).isTrue();
     verify(tenantEntitlementKafkaProperties).getTenantTopics();
-    verify(kafkaAdminService).createTopic(new NewTopic(TEST_TENANT_TOPIC, 10, (short) 1));
+    verify(kafkaAdmin).createOrModifyTopics(new NewTopic(TEST_TENANT_TOPIC, 10, (short) 1));
   }
 
   @Test
@@ -91,7 +93,7 @@ class KafkaTenantTopicCreatorTest {
 
     assertThat(stageContext.<Boolean>get(KAFKA_TENANT_TOPIC_CREATOR_CREATED)).isTrue();
     verify(tenantEntitlementKafkaProperties).getTenantTopics();
-    verify(kafkaAdminService).createTopic(new NewTopic(TEST_TENANT_COLLECTION_TOPIC, 10, (short) 1));
+    verify(kafkaAdmin).createOrModifyTopics(new NewTopic(TEST_TENANT_COLLECTION_TOPIC, 10, (short) 1));
   }
 
   @Test
@@ -106,14 +108,13 @@ class KafkaTenantTopicCreatorTest {
 
     assertThat(stageContext.<Boolean>get(KAFKA_TENANT_TOPIC_CREATOR_CREATED)).isNull();
     verify(tenantEntitlementKafkaProperties).getTenantTopics();
-    verify(kafkaAdminService, never()).createTopic(any());
+    verify(kafkaAdmin, never()).createOrModifyTopics(any(NewTopic[].class));
   }
 
   @Test
   void execute_positive_noTenantTopics() {
     var entitlementRequest = entitlementRequest(ENTITLE);
     when(tenantEntitlementKafkaProperties.getTenantTopics()).thenReturn(emptyList());
-    when(kafkaAdminService.findTopics(emptySet())).thenReturn(emptyList());
     when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(false);
 
     var stageContext = stageContext(entitlementRequest);
@@ -122,6 +123,38 @@ class KafkaTenantTopicCreatorTest {
     assertThat(stageContext.<Boolean>get(KAFKA_TENANT_TOPIC_CREATOR_CREATED)).isNull();
   }
 
+  @Test
+  void execute_positive_existingTopicIsCached() {
+    var entitlementRequest = entitlementRequest(ENTITLE);
+
+    when(kafkaAdminService.findTopics(Set.of(TEST_TENANT_TOPIC))).thenReturn(Set.of(TEST_TENANT_TOPIC));
+    when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(false);
+
+    topicCreator.execute(stageContext(entitlementRequest));
+    var stageContext = stageContext(entitlementRequest);
+    topicCreator.execute(stageContext);
+
+    assertThat(stageContext.<Boolean>get(KAFKA_TENANT_TOPIC_CREATOR_CREATED)).isNull();
+    verify(tenantEntitlementKafkaProperties, times(2)).getTenantTopics();
+    verify(kafkaAdminService).findTopics(Set.of(TEST_TENANT_TOPIC));
+  }
+
+  @Test
+  void execute_positive_createdTopicIsCached() {
+    var entitlementRequest = entitlementRequest(ENTITLE);
+
+    when(kafkaAdminService.findTopics(Set.of(TEST_TENANT_COLLECTION_TOPIC))).thenReturn(emptyList());
+    when(tenantEntitlementKafkaProperties.isProducerTenantCollection()).thenReturn(true);
+
+    topicCreator.execute(stageContext(entitlementRequest));
+    var stageContext = stageContext(entitlementRequest);
+    topicCreator.execute(stageContext);
+
+    assertThat(stageContext.<Boolean>get(KAFKA_TENANT_TOPIC_CREATOR_CREATED)).isNull();
+    verify(tenantEntitlementKafkaProperties, times(2)).getTenantTopics();
+    verify(kafkaAdmin).createOrModifyTopics(new NewTopic(TEST_TENANT_COLLECTION_TOPIC, 10, (short) 1));
+  }
+
   @ParameterizedTest
   @EnumSource(value = EntitlementRequestType.class, names = {"ENTITLE", "STATE"}, mode = EnumSource.Mode.EXCLUDE)
   void execute_positive_notEntitleOrStateType(EntitlementRequestType type) {
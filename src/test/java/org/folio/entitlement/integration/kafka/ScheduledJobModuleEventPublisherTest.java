@@ -88,7 +88,7 @@ class ScheduledJobModuleEventPublisherTest {
       .newValue(ScheduledTimers.of(MODULE_ID, APPLICATION_ID, expectedNewHandlers))
       .build();
 
-    verify(kafkaEventPublisher).send(scheduledJobsTenantTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), scheduledJobsTenantTopic(), TENANT_NAME,
       fooTimerEvent);
   }
 
@@ -109,7 +109,7 @@ class ScheduledJobModuleEventPublisherTest {
       .newValue(ScheduledTimers.of(MODULE_ID, APPLICATION_ID, expectedNewHandlers))
       .build();
 
-    verify(kafkaEventPublisher).send(scheduledJobsTenantCollectionTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), scheduledJobsTenantCollectionTopic(), TENANT_NAME,
       fooTimerEvent);
   }
 
@@ -149,7 +149,7 @@ class ScheduledJobModuleEventPublisherTest {
       .oldValue(ScheduledTimers.of(MODULE_ID, ENTITLED_APPLICATION_ID, expectedOldHandlers))
       .build();
 
-    verify(kafkaEventPublisher).send(scheduledJobsTenantTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), scheduledJobsTenantTopic(), TENANT_NAME,
       fooTimerEvent);
   }
 
@@ -188,7 +188,7 @@ class ScheduledJobModuleEventPublisherTest {
       .oldValue(ScheduledTimers.of(MODULE_ID, ENTITLED_APPLICATION_ID, expectedOldHandlers))
       .build();
 
-    verify(kafkaEventPublisher).send(scheduledJobsTenantTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), scheduledJobsTenantTopic(), TENANT_NAME,
       fooTimerEvent);
   }
 
@@ -93,7 +93,7 @@ class SystemUserModuleEventPublisherTest {
     var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, contextData);
     moduleEventPublisher.execute(stageContext);
 
-    verify(kafkaEventPublisher).send(systemUserTenantTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), systemUserTenantTopic(), TENANT_NAME,
       resourceEvent(systemUserEvent));
   }
 
@@ -113,7 +113,7 @@ class SystemUserModuleEventPublisherTest {
     var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, contextData);
     moduleEventPublisher.execute(stageContext);
 
-    verify(kafkaEventPublisher).send(systemUserTenantCollectionTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), systemUserTenantCollectionTopic(), TENANT_NAME,
       resourceEvent(systemUserEvent));
   }
 
@@ -161,7 +161,7 @@ class SystemUserModuleEventPublisherTest {
       .oldValue(systemUserEvent(MODULE_ID, MODULE_NAME, List.of("foo.entities.post")))
       .build();
 
-    verify(kafkaEventPublisher).send(systemUserTenantTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), systemUserTenantTopic(), TENANT_NAME,
       expectedResourceEvent);
   }
 
@@ -204,7 +204,7 @@ class SystemUserModuleEventPublisherTest {
       .oldValue(systemUserEvent(MODULE_ID, MODULE_NAME, List.of("foo.entities.post")))
       .build();
 
-    verify(kafkaEventPublisher).send(systemUserTenantTopic(), TENANT_NAME,
+    verify(kafkaEventPublisher).send(stageContext.getCurrentFlowId(), systemUserTenantTopic(), TENANT_NAME,
       expectedResourceEvent);
   }
 
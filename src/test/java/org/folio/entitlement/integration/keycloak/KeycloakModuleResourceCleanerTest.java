@@ -12,7 +12,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 import java.util.Map;
 import org.folio.common.domain.model.ModuleDescriptor;
@@ -24,8 +23,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.token.TokenManager;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,8 +32,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class KeycloakModuleResourceCleanerTest {
 
   @InjectMocks private KeycloakModuleResourceCleaner keycloakModuleResourceCleaner;
-  @Mock private Keycloak keycloakClient;
-  @Mock private TokenManager tokenManager;
   @Mock private KeycloakService keycloakService;
   @Mock private ThreadLocalModuleStageContext threadLocalModuleStageContext;
 
@@ -53,9 +48,6 @@ class KeycloakModuleResourceCleanerTest {
 
   @Test
   void execute_positive_purgeTrue() {
-    when(keycloakClient.tokenManager()).thenReturn(tokenManager);
-    when(tokenManager.grantToken()).thenReturn(null);
-
     var request = EntitlementRequest.builder().type(REVOKE).purge(true).build();
     var stageParameters = Map.of(PARAM_TENANT_NAME, TENANT_NAME);
     var flowParameters = moduleFlowParameters(request, moduleDescriptor());
@@ -63,7 +55,6 @@ class KeycloakModuleResourceCleanerTest {
 
     keycloakModuleResourceCleaner.execute(stageContext);
 
-    verify(keycloakClient).tokenManager();
     verify(keycloakService).removeAuthResources(moduleDescriptor(), TENANT_NAME);
   }
 
@@ -76,7 +67,6 @@ class KeycloakModuleResourceCleanerTest {
 
     keycloakModuleResourceCleaner.execute(stageContext);
 
-    verify(keycloakClient, never()).tokenManager();
     verify(keycloakService, never()).removeAuthResources(any(), any());
   }
 
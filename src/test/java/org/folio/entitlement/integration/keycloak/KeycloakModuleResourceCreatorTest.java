@@ -4,6 +4,7 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.entitlement.domain.dto.EntitlementRequestType.ENTITLE;
 import static org.folio.entitlement.domain.model.CommonStageContext.PARAM_TENANT_NAME;
+import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
 import static org.folio.entitlement.support.TestConstants.APPLICATION_ID;
 import static org.folio.entitlement.support.TestConstants.FLOW_STAGE_ID;
 import static org.folio.entitlement.support.TestConstants.TENANT_ID;
@@ -13,7 +14,6 @@ import static org.folio.entitlement.support.TestValues.moduleStageContext;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
@@ -26,8 +26,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.token.TokenManager;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,8 +35,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class KeycloakModuleResourceCreatorTest {
 
   @InjectMocks private KeycloakModuleResourceCreator keycloakModuleResourceCreator;
-  @Mock private Keycloak keycloakClient;
-  @Mock private TokenManager tokenManager;
   @Mock private KeycloakService keycloakService;
   @Mock private ThreadLocalModuleStageContext threadLocalModuleStageContext;
 
@@ -55,9 +51,6 @@ class KeycloakModuleResourceCreatorTest {
 
   @Test
   void execute_positive() {
-    when(keycloakClient.tokenManager()).thenReturn(tokenManager);
-    when(tokenManager.grantToken()).thenReturn(null);
-
     var moduleDescriptor = moduleDescriptor();
     var flowParameters = moduleFlowParameters(entitlementRequest(true), moduleDescriptor);
     var stageData = Map.of(PARAM_TENANT_NAME, TENANT_NAME);
@@ -65,14 +58,11 @@ class KeycloakModuleResourceCreatorTest {
 
     keycloakModuleResourceCreator.execute(stageContext);
 
-    verify(keycloakService).updateAuthResources(null, moduleDescriptor, TENANT_NAME);
+    verify(keycloakService).updateAuthResources(null, moduleDescriptor, TENANT_NAME, APPLICATION_FLOW_ID);
   }
 
   @Test
   void cancel_positive_purgeOnRollback() {
-    when(keycloakClient.tokenManager()).thenReturn(tokenManager);
-    when(tokenManager.grantToken()).thenReturn(null);
-
     var moduleDescriptor = moduleDescriptor();
     var flowParameters = moduleFlowParameters(entitlementRequest(true), moduleDescriptor);
     var stageData = Map.of(PARAM_TENANT_NAME, TENANT_NAME);
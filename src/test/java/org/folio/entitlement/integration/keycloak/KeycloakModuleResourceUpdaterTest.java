@@ -18,7 +18,6 @@ import static org.folio.entitlement.support.TestValues.moduleStageContext;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
@@ -31,8 +30,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.token.TokenManager;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -42,8 +39,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class KeycloakModuleResourceUpdaterTest {
 
   @InjectMocks private KeycloakModuleResourceUpdater keycloakModuleResourceUpdater;
-  @Mock private Keycloak keycloakClient;
-  @Mock private TokenManager tokenManager;
   @Mock private KeycloakService keycloakService;
   @Mock private ThreadLocalModuleStageContext threadLocalModuleStageContext;
 
@@ -62,16 +57,13 @@ class KeycloakModuleResourceUpdaterTest {
   void execute_positive_newModule() {
     var moduleDescriptor = moduleDescriptor("mod-foo-1.0.0");
 
-    when(keycloakClient.tokenManager()).thenReturn(tokenManager);
-    when(tokenManager.grantToken()).thenReturn(null);
-
     var flowParameters = moduleFlowParameters(entitlementRequest(), moduleDescriptor);
     var stageData = Map.of(PARAM_TENANT_NAME, TENANT_NAME);
     var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, stageData);
 
     keycloakModuleResourceUpdater.execute(stageContext);
 
-    verify(keycloakService).updateAuthResources(null, moduleDescriptor, TENANT_NAME);
+    verify(keycloakService).updateAuthResources(null, moduleDescriptor, TENANT_NAME, APPLICATION_FLOW_ID);
   }
 
   @Test
@@ -79,16 +71,14 @@ class KeycloakModuleResourceUpdaterTest {
     var installedModuleDescriptor = moduleDescriptor("mod-foo-1.0.0");
     var moduleDescriptor = moduleDescriptor("mod-foo-2.0.0");
 
-    when(keycloakClient.tokenManager()).thenReturn(tokenManager);
-    when(tokenManager.grantToken()).thenReturn(null);
-
     var flowParameters = moduleFlowParameters(entitlementRequest(), moduleDescriptor, installedModuleDescriptor);
     var stageData = Map.of(PARAM_TENANT_NAME, TENANT_NAME);
     var stageContext = moduleStageContext(FLOW_STAGE_ID, flowParameters, stageData);
 
     keycloakModuleResourceUpdater.execute(stageContext);
 
-    verify(keycloakService).updateAuthResources(installedModuleDescriptor, moduleDescriptor, TENANT_NAME);
+    verify(keycloakService).updateAuthResources(installedModuleDescriptor, moduleDescriptor, TENANT_NAME,
+      APPLICATION_FLOW_ID);
   }
 
   @Test
@@ -101,16 +91,13 @@ class KeycloakModuleResourceUpdaterTest {
 
     keycloakModuleResourceUpdater.execute(stageContext);
 
-    verifyNoInteractions(keycloakService, keycloakClient);
+    verifyNoInteractions(keycloakService);
   }
 
   @Test
   void execute_positive_deprecatedModule() {
     var installedModuleDescriptor = moduleDescriptor("mod-foo-1.0.0");
 
-    when(keycloakClient.tokenManager()).thenReturn(tokenManager);
-    when(tokenManager.grantToken()).thenReturn(null);
-
     var flowParameters = Map.of(
       PARAM_REQUEST, entitlementRequest(),
       PARAM_INSTALLED_MODULE_DESCRIPTOR, installedModuleDescriptor,
@@ -121,7 +108,7 @@ class KeycloakModuleResourceUpdaterTest {
 
     keycloakModuleResourceUpdater.execute(stageContext);
 
-    verify(keycloakService).updateAuthResources(installedModuleDescriptor, null, TENANT_NAME);
+    verify(keycloakService).updateAuthResources(installedModuleDescriptor, null, TENANT_NAME, APPLICATION_FLOW_ID);
   }
 
   @Test
@@ -6,7 +6,6 @@ import static org.folio.entitlement.domain.model.ModuleStageContext.PARAM_MODULE
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.WebApplicationException;
 import java.util.Map;
@@ -21,8 +20,6 @@ import org.folio.entitlement.repository.FlowStageRepository;
 import org.folio.entitlement.service.stage.ThreadLocalModuleStageContext;
 import org.folio.flow.impl.StageContextImpl;
 import org.junit.jupiter.api.Test;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.token.TokenManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Bean;
@@ -47,7 +44,8 @@ class KeycloakRetriesTest {
 
   @Test
   void testRetryOnModuleResourceCreate() {
-    doThrow(new WebApplicationException("test", 500)).when(keycloakService).updateAuthResources(any(), any(), any());
+    doThrow(new WebApplicationException("test", 500))
+      .when(keycloakService).updateAuthResources(any(), any(), any(), any());
     var context = createModuleStageContext();
     assertThatThrownBy(() -> keycloakModuleResourceCreator.execute(context)).isInstanceOf(
       WebApplicationException.class);
@@ -55,7 +53,8 @@ class KeycloakRetriesTest {
 
   @Test
   void testRetryOnModuleResourceUpdate() {
-    doThrow(new WebApplicationException("test", 500)).when(keycloakService).updateAuthResources(any(), any(), any());
+    doThrow(new WebApplicationException("test", 500))
+      .when(keycloakService).updateAuthResources(any(), any(), any(), any());
     var context = createModuleStageContext();
     assertThatThrownBy(() -> keycloakModuleResourceUpdater.execute(context)).isInstanceOf(
       WebApplicationException.class);
@@ -93,13 +92,6 @@ class KeycloakRetriesTest {
       return mock(FlowStageRepository.class);
     }
 
-    @Bean
-    public Keycloak keycloak() {
-      var keycloak = mock(Keycloak.class);
-      when(keycloak.tokenManager()).thenReturn(mock(TokenManager.class));
-      return keycloak;
-    }
-
     @Bean
     public KeycloakService keycloakService() {
       return mock(KeycloakService.class);
@@ -107,23 +99,20 @@ class KeycloakRetriesTest {
 
     @Bean
     @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public KeycloakModuleResourceCreator keycloakModuleResourceCreator(Keycloak keycloak,
-      KeycloakService keycloakService) {
-      return new KeycloakModuleResourceCreator(keycloak, keycloakService);
+    public KeycloakModuleResourceCreator keycloakModuleResourceCreator(KeycloakService keycloakService) {
+      return new KeycloakModuleResourceCreator(keycloakService);
     }
 
     @Bean
     @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public KeycloakModuleResourceUpdater keycloakModuleResourceUpdater(Keycloak keycloak,
-      KeycloakService keycloakService) {
-      return new KeycloakModuleResourceUpdater(keycloak, keycloakService);
+    public KeycloakModuleResourceUpdater keycloakModuleResourceUpdater(KeycloakService keycloakService) {
+      return new KeycloakModuleResourceUpdater(keycloakService);
     }
 
     @Bean
     @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public KeycloakModuleResourceCleaner keycloakModuleResourceCleaner(Keycloak keycloak,
-      KeycloakService keycloakService) {
-      return new KeycloakModuleResourceCleaner(keycloak, keycloakService);
+    public KeycloakModuleResourceCleaner keycloakModuleResourceCleaner(KeycloakService keycloakService) {
+      return new KeycloakModuleResourceCleaner(keycloakService);
     }
 
     @Bean
@@ -19,12 +19,16 @@ import static org.folio.entitlement.integration.keycloak.KeycloakServiceTest.Key
 import static org.folio.entitlement.integration.keycloak.KeycloakServiceTest.KeycloakServiceTestUtils.resource;
 import static org.folio.entitlement.integration.keycloak.KeycloakServiceTest.KeycloakServiceTestUtils.scope;
 import static org.folio.entitlement.integration.keycloak.KeycloakServiceTest.KeycloakServiceTestUtils.scopeWithId;
+import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
 import static org.folio.entitlement.support.TestConstants.TENANT_NAME;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -32,16 +36,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.error.Parameter;
 import org.folio.entitlement.integration.IntegrationException;
@@ -62,9 +69,12 @@ import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.AuthorizationResource;
 import org.keycloak.admin.client.resource.ResourceResource;
 import org.keycloak.representations.idm.ClientRepresentation;
+import org.keycloak.representations.idm.authorization.DecisionStrategy;
+import org.keycloak.representations.idm.authorization.PolicyEnforcementMode;
 import org.keycloak.representations.idm.authorization.ResourceRepresentation;
 import org.keycloak.representations.idm.authorization.ResourceServerRepresentation;
 import org.keycloak.representations.idm.authorization.ScopeRepresentation;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -85,6 +95,7 @@ class KeycloakServiceTest {
   @AfterEach
   void tearDown() {
     clearInvocations(retrySupportService);
+    verify(kcConfiguration).getResourceParallelism();
     TestUtils.verifyNoMoreInteractions(this);
   }
 
@@ -115,6 +126,17 @@ class KeycloakServiceTest {
     responseCustomizer.accept(resourceCreationResponse);
   }
 
+  private static Response response(int status) {
+    var response = mock(Response.class);
+    when(response.getStatus()).thenReturn(status);
+    return response;
+  }
+
+  private void mockResourcesImportFailure() {
+    when(authorizationResource.getSettings()).thenReturn(new ResourceServerRepresentation());
+    doThrow(new BadRequestException("Bad Request")).when(authorizationResource).importSettings(any());
+  }
+
   private void setupCallWithRetryMock() {
     when(retrySupportService.callWithRetry(any()))
       .thenAnswer(invocation -> invocation.getArgument(0, SafeCallable.class).call());
@@ -149,15 +171,17 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(prevModuleDescriptor, true)).thenReturn(prevMappings);
 
       mockScopesCreation("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+      mockResourcesImportFailure();
       mockResourceCreation(resource("/r2", getScopeId("GET")));
 
       var r3Resource = resource(randomUUID(), "/r3", scope(getScopeId("PUT"), "PUT"));
       when(authorizationResource.resources().findByName("/r3")).thenReturn(List.of(r3Resource));
 
-      keycloakService.updateAuthResources(prevModuleDescriptor, currModuleDescriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(prevModuleDescriptor, currModuleDescriptor, TENANT_NAME, null);
 
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
       verify(authorizationResource, atLeastOnce()).resources();
@@ -181,19 +205,21 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currModuleDescriptor, true)).thenReturn(currMappings);
       when(keycloakModuleDescriptorMapper.map(prevModuleDescriptor, true)).thenReturn(prevMappings);
 
+      mockResourcesImportFailure();
       mockResourceCreation(resource(null, "/r1", scopeWithId("POST"), scopeWithId("GET")), 409, resp -> {});
 
       var r1ResourceId = randomUUID();
       var r1Resource = resource(r1ResourceId, "/r1", scopeWithId("POST"));
       when(authorizationResource.resources().findByName("/r1")).thenReturn(List.of(r1Resource));
 
-      keycloakService.updateAuthResources(prevModuleDescriptor, currModuleDescriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(prevModuleDescriptor, currModuleDescriptor, TENANT_NAME, null);
 
       var updatedR1Resource = resource(r1ResourceId, "/r1", scopeWithId("POST"), scopeWithId("GET"));
       verify(authorizationResource.resources().resource(r1Resource.getId())).update(updatedR1Resource);
 
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
       verify(authorizationResource, atLeastOnce()).resources();
@@ -215,10 +241,11 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currModuleDescriptor, true)).thenReturn(currMappings);
       when(keycloakModuleDescriptorMapper.map(prevModuleDescriptor, true)).thenReturn(prevMappings);
 
-      keycloakService.updateAuthResources(prevModuleDescriptor, currModuleDescriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(prevModuleDescriptor, currModuleDescriptor, TENANT_NAME, null);
 
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
     }
@@ -226,6 +253,7 @@ class KeycloakServiceTest {
     @Test
     void positive_prevDescriptorIsNull() {
       setupCallWithRetryMock();
+      setupRunWithRetryMock();
 
       var currModuleDescriptor = moduleDescriptor("mod-foo-1.2.0");
       var currMappings = keycloakMappings(resource("/r1", "POST"), resource("/r2", "GET"));
@@ -234,13 +262,15 @@ class KeycloakServiceTest {
       when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
       when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
       when(keycloakModuleDescriptorMapper.map(currModuleDescriptor, true)).thenReturn(currMappings);
+      mockResourcesImportFailure();
       mockResourceCreation(resource(null, "/r1", scopeWithId("POST")));
       mockResourceCreation(resource(null, "/r2", scopeWithId("GET")));
 
-      keycloakService.updateAuthResources(null, currModuleDescriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(null, currModuleDescriptor, TENANT_NAME, null);
 
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
       verify(authorizationResource, atLeastOnce()).resources();
@@ -249,6 +279,7 @@ class KeycloakServiceTest {
     @Test
     void positive_prevDescriptorIsNullAndScopeConflict() {
       setupCallWithRetryMock();
+      setupRunWithRetryMock();
 
       var currModuleDescriptor = moduleDescriptor("mod-foo-1.2.0");
       var currMappings = keycloakMappings(resource("/r1", "POST"), resource("/r2", "GET"));
@@ -259,13 +290,15 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currModuleDescriptor, true)).thenReturn(currMappings);
       mockScopeCreation(scope("GET"), 409, response -> {});
       mockScopesCreation("HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+      mockResourcesImportFailure();
       mockResourceCreation(resource(null, "/r1", scopeWithId("POST")));
       mockResourceCreation(resource(null, "/r2", scopeWithId("GET")));
 
-      keycloakService.updateAuthResources(null, currModuleDescriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(null, currModuleDescriptor, TENANT_NAME, null);
 
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
       verify(authorizationResource, atLeastOnce()).resources();
@@ -289,10 +322,11 @@ class KeycloakServiceTest {
       when(authorizationResource.resources().findByName("/r1")).thenReturn(List.of(r1Resource));
       when(authorizationResource.resources().findByName("/r2")).thenReturn(List.of(r2Resource));
 
-      keycloakService.updateAuthResources(prevModuleDescriptor, null, TENANT_NAME);
+      keycloakService.updateAuthResources(prevModuleDescriptor, null, TENANT_NAME, null);
 
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
       verify(authorizationResource, atLeastOnce()).resources();
@@ -300,6 +334,290 @@ class KeycloakServiceTest {
       verify(authorizationResource.resources().resource(r2Resource.getId())).remove();
     }
 
+    @Test
+    void positive_resourcesImported() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var currentDescriptor = moduleDescriptor("mod-foo-1.2.0");
+      var currentMappings = keycloakMappings(resource("/r1", "POST"), resource("/r2", "GET"));
+      var settings = new ResourceServerRepresentation();
+      settings.setPolicyEnforcementMode(PolicyEnforcementMode.PERMISSIVE);
+      settings.setDecisionStrategy(DecisionStrategy.AFFIRMATIVE);
+
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(currentDescriptor, true)).thenReturn(currentMappings);
+      when(authorizationResource.getSettings()).thenReturn(settings);
+
+      keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null);
+
+      var captor = ArgumentCaptor.forClass(ResourceServerRepresentation.class);
+      verify(authorizationResource).importSettings(captor.capture());
+      var importedResourceServer = captor.getValue();
+      assertThat(importedResourceServer.getPolicyEnforcementMode()).isEqualTo(PolicyEnforcementMode.PERMISSIVE);
+      assertThat(importedResourceServer.getDecisionStrategy()).isEqualTo(DecisionStrategy.AFFIRMATIVE);
+      assertThat(importedResourceServer.getResources()).containsExactly(
+        resource(null, "/r1", scopeWithId("POST")), resource(null, "/r2", scopeWithId("GET")));
+
+      verify(kcConfiguration, atLeastOnce()).getUrl();
+      verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+    }
+
+    @Test
+    void positive_moduleResourcesAreCached() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var descriptor = moduleDescriptor("mod-foo-1.2.0");
+      var mappedResource = resource("/r1", "POST");
+
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(descriptor, true)).thenReturn(keycloakMappings(mappedResource));
+      when(authorizationResource.getSettings()).thenReturn(new ResourceServerRepresentation());
+
+      keycloakService.updateAuthResources(null, descriptor, TENANT_NAME, null);
+      keycloakService.updateAuthResources(null, descriptor, TENANT_NAME, null);
+
+      var captor = ArgumentCaptor.forClass(ResourceServerRepresentation.class);
+      verify(authorizationResource, times(2)).importSettings(captor.capture());
+      assertThat(captor.getAllValues()).allSatisfy(resourceServer -> assertThat(resourceServer.getResources())
+        .singleElement()
+        .satisfies(resource -> assertThat(resource.getScopes())
+          .extracting(ScopeRepresentation::getId).containsExactly(getScopeId("POST")))
+        .isNotSameAs(mappedResource));
+      assertThat(mappedResource.getScopes()).extracting(ScopeRepresentation::getId).containsOnlyNulls();
+
+      verify(keycloakModuleDescriptorMapper).map(descriptor, true);
+      verify(kcConfiguration, atLeastOnce()).getUrl();
+      verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+    }
+
+    @Test
+    void positive_pubSubResourcesCachedOnRevokeAreUsedOnEntitle() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var descriptor = moduleDescriptor("mod-pubsub-2.0.0");
+      descriptor.setProvides(new ArrayList<>());
+      var r1Resource = resource(randomUUID(), "/r1", scopeWithId("POST"));
+      var handlerResource = resource(randomUUID(), "/pubsub/handlers", scopeWithId("POST"));
+      var mappings = keycloakMappings(resource("/r1", "POST"), resource("/pubsub/handlers", "POST"));
+
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(argThat(KeycloakServiceTestUtils::hasPubSubHandlers), eq(true)))
+        .thenReturn(mappings);
+      when(authorizationResource.resources().findByName("/r1")).thenReturn(List.of(r1Resource));
+      when(authorizationResource.resources().findByName("/pubsub/handlers")).thenReturn(List.of(handlerResource));
+      when(authorizationResource.getSettings()).thenReturn(new ResourceServerRepresentation());
+
+      keycloakService.removeAuthResources(descriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(null, descriptor, TENANT_NAME, null);
+
+      var captor = ArgumentCaptor.forClass(ResourceServerRepresentation.class);
+      verify(authorizationResource).importSettings(captor.capture());
+      assertThat(captor.getValue().getResources()).containsExactly(
+        resource(null, "/r1", scopeWithId("POST")), resource(null, "/pubsub/handlers", scopeWithId("POST")));
+      assertThat(descriptor.getProvides()).isEmpty();
+
+      verify(keycloakModuleDescriptorMapper).map(any(ModuleDescriptor.class), eq(true));
+      verify(authorizationResource.resources().resource(r1Resource.getId())).remove();
+      verify(authorizationResource.resources().resource(handlerResource.getId())).remove();
+      verify(kcConfiguration, atLeastOnce()).getUrl();
+      verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+      verify(authorizationResource, atLeastOnce()).resources();
+    }
+
+    @Test
+    void positive_reconcileResources() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var currDescriptor = moduleDescriptor("mod-foo-1.2.0");
+      var prevDescriptor = moduleDescriptor("mod-foo-1.1.0");
+      var r1Resource = resource(randomUUID(), "/r1", scopeWithId("POST"));
+      var r3Resource = resource(randomUUID(), "/r3", scopeWithId("PUT"));
+      var existingResources = List.of(r1Resource, r3Resource, resource(randomUUID(), "/r4", scopeWithId("GET")));
+
+      doReturn(true).when(kcConfiguration).isResourceReconciliationEnabled();
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(currDescriptor, true)).thenReturn(
+        keycloakMappings(resource("/r1", "POST"), resource("/r2", "GET")));
+      when(keycloakModuleDescriptorMapper.map(prevDescriptor, true)).thenReturn(
+        keycloakMappings(resource("/r1", "POST"), resource("/r3", "PUT")));
+      when(authorizationResource.resources().find(null, null, null, null, null, 0, 500)).thenReturn(existingResources);
+      when(authorizationResource.getSettings()).thenReturn(new ResourceServerRepresentation());
+
+      keycloakService.updateAuthResources(prevDescriptor, currDescriptor, TENANT_NAME, null);
+
+      var captor = ArgumentCaptor.forClass(ResourceServerRepresentation.class);
+      verify(authorizationResource).importSettings(captor.capture());
+      assertThat(captor.getValue().getResources()).containsExactly(resource(null, "/r2", scopeWithId("GET")));
+      verify(authorizationResource.resources().resource(r3Resource.getId())).remove();
+
+      verify(kcConfiguration, atLeastOnce()).getUrl();
+      verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+      verify(authorizationResource, atLeastOnce()).resources();
+    }
+
+    @Test
+    void positive_reconcileResourcesWithMultiplePages() {
+      setupCallWithRetryMock();
+
+      var descriptor = moduleDescriptor("mod-foo-1.2.0");
+      var firstPage = IntStream.range(0, 500)
+        .mapToObj(i -> resource(randomUUID(), "/other/" + i, scopeWithId("GET")))
+        .toList();
+
+      doReturn(true).when(kcConfiguration).isResourceReconciliationEnabled();
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(descriptor, true)).thenReturn(keycloakMappings(resource("/r1", "POST")));
+      when(authorizationResource.resources().find(null, null, null, null, null, 0, 500)).thenReturn(firstPage);
+      when(authorizationResource.resources().find(null, null, null, null, null, 500, 500)).thenReturn(
+        List.of(resource(randomUUID(), "/r1", scopeWithId("POST"))));
+
+      keycloakService.updateAuthResources(descriptor, descriptor, TENANT_NAME, null);
+
+      verify(kcConfiguration, atLeastOnce()).getUrl();
+      verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+      verify(authorizationResource, atLeastOnce()).resources();
+    }
+
+    @Test
+    void positive_reconcileResourcesSnapshotIsSharedWithinApplicationFlow() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var fooDescriptor = moduleDescriptor("mod-foo-1.2.0");
+      var barDescriptor = moduleDescriptor("mod-bar-1.0.0");
+      var existingResources = List.of(resource(randomUUID(), "/bar", scopeWithId("GET")));
+
+      doReturn(true).when(kcConfiguration).isResourceReconciliationEnabled();
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(fooDescriptor, true)).thenReturn(
+        keycloakMappings(resource("/foo", "POST")));
+      when(keycloakModuleDescriptorMapper.map(barDescriptor, true)).thenReturn(
+        keycloakMappings(resource("/bar", "GET")));
+      when(authorizationResource.resources().find(null, null, null, null, null, 0, 500)).thenReturn(existingResources);
+      when(authorizationResource.getSettings()).thenReturn(new ResourceServerRepresentation());
+
+      keycloakService.updateAuthResources(null, fooDescriptor, TENANT_NAME, APPLICATION_FLOW_ID);
+      keycloakService.updateAuthResources(null, barDescriptor, TENANT_NAME, APPLICATION_FLOW_ID);
+      keycloakService.updateAuthResources(null, fooDescriptor, TENANT_NAME, APPLICATION_FLOW_ID);
+
+      var captor = ArgumentCaptor.forClass(ResourceServerRepresentation.class);
+      verify(authorizationResource).importSettings(captor.capture());
+      assertThat(captor.getValue().getResources()).containsExactly(resource(null, "/foo", scopeWithId("POST")));
+      verify(authorizationResource.resources()).find(null, null, null, null, null, 0, 500);
+
+      verify(kcConfiguration, atLeastOnce()).getUrl();
+      verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+      verify(authorizationResource, atLeastOnce()).resources();
+    }
+
+    @Test
+    void positive_loginClientAndScopesAreCached() {
+      setupCallWithRetryMock();
+
+      var moduleDescriptor = moduleDescriptor("mod-foo-1.2.0");
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(moduleDescriptor, true)).thenReturn(keycloakMappings());
+
+      keycloakService.updateAuthResources(null, moduleDescriptor, TENANT_NAME, null);
+      keycloakService.updateAuthResources(null, moduleDescriptor, TENANT_NAME, null);
+
+      verify(keycloak.realm(TENANT_NAME).clients()).findByClientId(CLIENT_NAME);
+      verify(keycloak).proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL);
+      verify(authorizationResource.scopes()).scopes();
+      verify(kcConfiguration).getUrl();
+      verify(kcConfiguration).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+    }
+
+    @Test
+    void positive_cachedLoginClientIsEvictedOnNotFound() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var moduleDescriptor = moduleDescriptor("mod-foo-1.2.0");
+      var resource = resource(null, "/r1", scopeWithId("GET"));
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(moduleDescriptor, true)).thenReturn(keycloakMappings(resource));
+      var created = response(201);
+      var notFound = response(404);
+      mockResourcesImportFailure();
+      when(authorizationResource.resources().create(resource)).thenReturn(created, notFound, created);
+
+      keycloakService.updateAuthResources(null, moduleDescriptor, TENANT_NAME, null);
+      keycloakService.updateAuthResources(null, moduleDescriptor, TENANT_NAME, null);
+
+      verify(keycloak.realm(TENANT_NAME).clients(), times(2)).findByClientId(CLIENT_NAME);
+      verify(keycloak, times(2)).proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL);
+      verify(authorizationResource.scopes(), times(2)).scopes();
+      verify(authorizationResource, atLeastOnce()).resources();
+      verify(kcConfiguration, times(2)).getUrl();
+      verify(kcConfiguration, times(2)).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+    }
+
+    @Test
+    void positive_loginClientIsEvicted() {
+      setupCallWithRetryMock();
+
+      var moduleDescriptor = moduleDescriptor("mod-foo-1.2.0");
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(keycloakModuleDescriptorMapper.map(moduleDescriptor, true)).thenReturn(keycloakMappings());
+
+      keycloakService.updateAuthResources(null, moduleDescriptor, TENANT_NAME, null);
+      keycloakService.evictAuthorizationClient(TENANT_NAME);
+      keycloakService.updateAuthResources(null, moduleDescriptor, TENANT_NAME, null);
+
+      verify(keycloak.realm(TENANT_NAME).clients(), times(2)).findByClientId(CLIENT_NAME);
+      verify(keycloak, times(2)).proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL);
+      verify(kcConfiguration, times(2)).getUrl();
+      verify(kcConfiguration, times(2)).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+    }
+
     @Test
     void negative_clientNotFound() {
       setupCallWithRetryMock();
@@ -309,11 +627,13 @@ class KeycloakServiceTest {
 
       when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(emptyList());
 
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(prevDescriptor, currentDescriptor, TENANT_NAME))
+      assertThatThrownBy(
+        () -> keycloakService.updateAuthResources(prevDescriptor, currentDescriptor, TENANT_NAME, null))
         .isInstanceOf(EntityNotFoundException.class)
         .hasMessage("Client for login operations was not found by name: test-login-client");
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
     }
 
@@ -327,11 +647,13 @@ class KeycloakServiceTest {
 
       when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(client));
 
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(prevDescriptor, currentDescriptor, TENANT_NAME))
+      assertThatThrownBy(
+        () -> keycloakService.updateAuthResources(prevDescriptor, currentDescriptor, TENANT_NAME, null))
         .isInstanceOf(EntityNotFoundException.class)
         .hasMessage("Client for login operations was not found by name: test-login-client");
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
     }
 
@@ -346,13 +668,14 @@ class KeycloakServiceTest {
       mockScopesCreation("HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
 
       var currentDescriptor = moduleDescriptor("mod-foo-1.2.0");
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME))
+      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null))
         .isInstanceOf(IntegrationException.class)
         .hasMessage("Failed to update authorization scopes in Keycloak")
         .satisfies(error -> assertThat(((IntegrationException) error).getErrors()).containsExactly(
           parameter("scope", "Failed to create scope GET (cause: RuntimeException, causeMessage: Error)")));
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -371,12 +694,13 @@ class KeycloakServiceTest {
       var currentDescriptor = moduleDescriptor("mod-foo-1.2.0");
       var prevDescriptor = moduleDescriptor("mod-foo-1.1.0");
       assertThatThrownBy(
-        () -> keycloakService.updateAuthResources(prevDescriptor, currentDescriptor, TENANT_NAME)).isInstanceOf(
+        () -> keycloakService.updateAuthResources(prevDescriptor, currentDescriptor, TENANT_NAME, null)).isInstanceOf(
         IntegrationException.class).hasMessage("Failed to update authorization scopes in Keycloak").satisfies(
           error -> assertThat(((IntegrationException) error).getErrors()).containsExactly(parameter("scope",
             "Failed to create scope GET (cause: WebApplicationException, causeMessage: HTTP 502 Bad Gateway)")));
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -385,6 +709,7 @@ class KeycloakServiceTest {
     @Test
     void negative_failedToCreateResource() {
       setupCallWithRetryMock();
+      setupRunWithRetryMock();
 
       var currentDescriptor = moduleDescriptor("mod-foo-1.2.0");
       var currentMappings = keycloakMappings(resource("/r1", "GET"));
@@ -395,14 +720,17 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currentDescriptor, true)).thenReturn(currentMappings);
 
       var resource = resource(null, "/r1", scopeWithId("GET"));
+      mockResourcesImportFailure();
       mockResourceCreation(resource, 502, resp -> when(resp.getStatusInfo()).thenReturn(BAD_GATEWAY));
 
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME)).isInstanceOf(
+      assertThatThrownBy(
+        () -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null)).isInstanceOf(
         IntegrationException.class).hasMessage("Failed to update authorization resources in Keycloak").satisfies(
           error -> assertThat(((IntegrationException) error).getErrors()).containsExactly(parameter("resource",
             "Failed to create resource: /r1 (cause: WebApplicationException, causeMessage: HTTP 502 Bad Gateway)")));
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -412,6 +740,7 @@ class KeycloakServiceTest {
     @Test
     void negative_failedToCreateResourceOnTryCatchClause() {
       setupCallWithRetryMock();
+      setupRunWithRetryMock();
 
       var currentDescriptor = moduleDescriptor("mod-foo-1.2.0");
       var currentMappings = keycloakMappings(resource("/r1", "GET"));
@@ -422,9 +751,10 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currentDescriptor, true)).thenReturn(currentMappings);
 
       var resource = resource(null, "/r1", scopeWithId("GET"));
+      mockResourcesImportFailure();
       when(authorizationResource.resources().create(resource)).thenThrow(new RuntimeException("Error"));
 
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME))
+      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null))
         .isInstanceOf(IntegrationException.class)
         .hasMessage("Failed to update authorization resources in Keycloak")
         .satisfies(error -> assertThat(((IntegrationException) error).getErrors()).containsExactly(
@@ -432,6 +762,7 @@ class KeycloakServiceTest {
             "Failed to create resource: /r1 (cause: RuntimeException, causeMessage: Error)")));
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -452,6 +783,7 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currentDescriptor, true)).thenReturn(currentMappings);
 
       var resource = resource(null, "/r1", scopeWithId("GET"));
+      mockResourcesImportFailure();
       mockResourceCreation(resource, 409, resp -> {});
 
       var foundResourceId = randomUUID();
@@ -463,13 +795,14 @@ class KeycloakServiceTest {
       when(authorizationResource.resources().resource(foundResourceId.toString())).thenReturn(resourceResource);
       doThrow(error).when(resourceResource).update(resource(foundResourceId, "/r1", scopeWithId("GET")));
 
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME))
+      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null))
         .isInstanceOf(IntegrationException.class)
         .hasMessage("Failed to update authorization resources in Keycloak")
         .satisfies(err -> assertThat(((IntegrationException) err).getErrors()).containsExactly(
           parameter("resource", "Failed to update resource: /r1 (status: 502, causeMessage: Bad Gateway)")));
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -479,6 +812,7 @@ class KeycloakServiceTest {
     @Test
     void negative_failedToUpdateResourceWhenNotFound() {
       setupCallWithRetryMock();
+      setupRunWithRetryMock();
 
       var currentDescriptor = moduleDescriptor("mod-foo-1.2.0");
       var currentMappings = keycloakMappings(resource("/r1", "GET"));
@@ -489,16 +823,18 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currentDescriptor, true)).thenReturn(currentMappings);
 
       var resource = resource(null, "/r1", scopeWithId("GET"));
+      mockResourcesImportFailure();
       mockResourceCreation(resource, 409, resp -> {});
       when(authorizationResource.resources().findByName("/r1")).thenReturn(emptyList());
 
-      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME))
+      assertThatThrownBy(() -> keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null))
         .isInstanceOf(IntegrationException.class)
         .hasMessage("Failed to update authorization resources in Keycloak")
         .satisfies(error -> assertThat(((IntegrationException) error).getErrors()).containsExactly(
           parameter("resource", "Failed to find created resource after all retry attempts, name: /r1")));
 
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -527,17 +863,19 @@ class KeycloakServiceTest {
       when(keycloakModuleDescriptorMapper.map(currentDescriptor, true)).thenReturn(currentMappings);
 
       var resource = resource(null, "/r1", scopeWithId("GET"));
+      mockResourcesImportFailure();
       mockResourceCreation(resource, 409, resp -> {});
 
       var foundResourceId = randomUUID();
       var foundResource = resource(foundResourceId, "/r1", scopeWithId("POST"));
       when(authorizationResource.resources().findByName("/r1")).thenReturn(emptyList(), List.of(foundResource));
 
-      keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME);
+      keycloakService.updateAuthResources(null, currentDescriptor, TENANT_NAME, null);
 
       verify(authorizationResource.resources().resource(foundResource.getId()))
         .update(resource(foundResourceId, "/r1", scopeWithId("GET")));
       verify(kcConfiguration, atLeastOnce()).getLogin();
+      verify(kcConfiguration, atLeastOnce()).isResourceReconciliationEnabled();
       verify(kcConfiguration, atLeastOnce()).getUrl();
       verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
       verify(authorizationResource, atLeastOnce()).scopes();
@@ -691,6 +1029,51 @@ class KeycloakServiceTest {
       verify(authorizationResource, atLeastOnce()).scopes();
       verify(authorizationResource, atLeastOnce()).resources();
     }
+
+    @Test
+    void negative_failedToDeleteResourceInParallel() {
+      setupCallWithRetryMock();
+      setupRunWithRetryMock();
+
+      var properties = keycloakConfigurationProperties(CLIENT_SUFFIX);
+      properties.setResourceParallelism(4);
+      var service = new KeycloakService(keycloak, keycloakModuleDescriptorMapper, properties, retrySupportService);
+
+      var moduleDescriptor = moduleDescriptor("mod-foo-1.1.0");
+      var mappings = keycloakMappings(resource("/r1", "POST"), resource("/r2", "GET"), resource("/r3", "PUT"));
+      var r1Resource = resource(randomUUID(), "/r1", scopeWithId("POST"));
+      var r2Resource = resource(randomUUID(), "/r2", scopeWithId("GET"));
+      var r3Resource = resource(randomUUID(), "/r3", scopeWithId("PUT"));
+
+      when(keycloak.realm(TENANT_NAME).clients().findByClientId(CLIENT_NAME)).thenReturn(List.of(loginClient()));
+      when(keycloak.proxy(AuthorizationResource.class, KEYCLOAK_PROXY_URL)).thenReturn(authorizationResource);
+      when(keycloakModuleDescriptorMapper.map(moduleDescriptor, true)).thenReturn(mappings);
+      when(authorizationResource.scopes().scopes()).thenReturn(ALL_SCOPES);
+      when(authorizationResource.resources().findByName("/r1")).thenReturn(List.of(r1Resource));
+      when(authorizationResource.resources().findByName("/r2")).thenReturn(List.of(r2Resource));
+      when(authorizationResource.resources().findByName("/r3")).thenReturn(List.of(r3Resource));
+
+      var r1ResourceClient = mock(ResourceResource.class);
+      var r2ResourceClient = mock(ResourceResource.class);
+      var r3ResourceClient = mock(ResourceResource.class);
+      when(authorizationResource.resources().resource(r1Resource.getId())).thenReturn(r1ResourceClient);
+      when(authorizationResource.resources().resource(r2Resource.getId())).thenReturn(r2ResourceClient);
+      when(authorizationResource.resources().resource(r3Resource.getId())).thenReturn(r3ResourceClient);
+      doThrow(new WebApplicationException("Bad Gateway", Status.BAD_GATEWAY)).when(r2ResourceClient).remove();
+
+      assertThatThrownBy(() -> service.removeAuthResources(moduleDescriptor, TENANT_NAME))
+        .isInstanceOf(IntegrationException.class)
+        .hasMessage("Failed to remove authorization resources in Keycloak")
+        .satisfies(err -> assertThat(((IntegrationException) err).getErrors()).containsExactly(
+          parameter("resource", "Failed to delete resource: /r2 (status: Bad Gateway, causeMessage: Bad Gateway)")));
+
+      verify(r1ResourceClient).remove();
+      verify(r2ResourceClient).remove();
+      verify(r3ResourceClient).remove();
+      verify(keycloak, atLeastOnce()).realm(TENANT_NAME);
+      verify(authorizationResource, atLeastOnce()).scopes();
+      verify(authorizationResource, atLeastOnce()).resources();
+    }
   }
 
   static class KeycloakServiceTestUtils {
@@ -736,6 +1119,11 @@ class KeycloakServiceTest {
       return new ModuleDescriptor().id(id);
     }
 
+    static boolean hasPubSubHandlers(ModuleDescriptor descriptor) {
+      return descriptor != null && descriptor.getProvides() != null && descriptor.getProvides().stream()
+        .anyMatch(interfaceDescriptor -> "pubsub-event-handlers".equals(interfaceDescriptor.getId()));
+    }
+
     static KeycloakMappings keycloakMappings(ResourceRepresentation... resourceRepresentations) {
       return KeycloakMappings.builder().resourceServer(resourceServer(resourceRepresentations)).build();
     }
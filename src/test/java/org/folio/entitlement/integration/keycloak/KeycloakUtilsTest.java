@@ -21,4 +21,26 @@ class KeycloakUtilsTest {
     Assertions.assertEquals(1, newDescriptor.getProvides().size());
     Assertions.assertEquals(12, newDescriptor.getProvides().get(0).getHandlers().size());
   }
+
+  @Test
+  void withPubSubResources_positive_descriptorIsCopied() {
+    ModuleDescriptor descriptor = new ModuleDescriptor();
+    descriptor.setId("mod-pubsub-1.1.0");
+    descriptor.setProvides(new ArrayList<>());
+
+    ModuleDescriptor result = KeycloakUtils.withPubSubResources(descriptor);
+
+    Assertions.assertNotSame(descriptor, result);
+    Assertions.assertEquals(0, descriptor.getProvides().size());
+    Assertions.assertEquals(1, result.getProvides().size());
+    Assertions.assertEquals("pubsub-event-handlers", result.getProvides().get(0).getId());
+  }
+
+  @Test
+  void withPubSubResources_positive_notPubSubModule() {
+    ModuleDescriptor descriptor = new ModuleDescriptor();
+    descriptor.setId("mod-foo-1.0.0");
+
+    Assertions.assertSame(descriptor, KeycloakUtils.withPubSubResources(descriptor));
+  }
 }
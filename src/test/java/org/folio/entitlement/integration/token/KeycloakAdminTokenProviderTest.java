@@ -35,11 +35,11 @@ class KeycloakAdminTokenProviderTest {
     var accessTokenResponse = new AccessTokenResponse();
     accessTokenResponse.setToken(KEYCLOAK_TOKEN);
 
-    when(keycloakCacheableService.getAccessToken(OKAPI_TOKEN)).thenReturn(accessTokenResponse);
+    when(keycloakCacheableService.getAccessToken()).thenReturn(accessTokenResponse);
 
     var result = keycloakAdminTokenProvider.getToken(OKAPI_TOKEN);
 
     assertThat(result).isEqualTo(KEYCLOAK_TOKEN);
-    verify(keycloakCacheableService).getAccessToken(OKAPI_TOKEN);
+    verify(keycloakCacheableService).getAccessToken();
   }
 }
@@ -0,0 +1,176 @@
+package org.folio.entitlement.it;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.FINISHED;
+import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.IN_PROGRESS;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.folio.entitlement.domain.entity.ApplicationDependencyEntity;
+import org.folio.entitlement.domain.entity.FlowStageEntity;
+import org.folio.entitlement.domain.entity.key.EntitlementModuleEntity;
+import org.folio.entitlement.domain.entity.type.EntityExecutionStatus;
+import org.folio.entitlement.repository.ApplicationDependencyRepository;
+import org.folio.entitlement.repository.EntitlementModuleRepository;
+import org.folio.entitlement.repository.FlowStageRepository;
+import org.folio.entitlement.support.base.BaseIntegrationTest;
+import org.folio.test.types.IntegrationTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@Sql(executionPhase = AFTER_TEST_METHOD, scripts = "classpath:/sql/truncate-tables.sql")
+@TestPropertySource(properties = {
+  "spring.jpa.properties.hibernate.generate_statistics=true",
+  "spring.jpa.properties.hibernate.jdbc.batch_size=100"
+})
+class BatchWriteRepositoryIT extends BaseIntegrationTest {
+
+  private static final int BATCH_SIZE = 100;
+  private static final int ENTITY_COUNT = 250;
+  private static final UUID TENANT_ID = UUID.randomUUID();
+  private static final String APPLICATION_ID = "test-app-1.0.0";
+
+  @Autowired private ApplicationDependencyRepository applicationDependencyRepository;
+  @Autowired private EntitlementModuleRepository entitlementModuleRepository;
+  @Autowired private FlowStageRepository flowStageRepository;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private DataSource dataSource;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp(@Autowired EntityManagerFactory entityManagerFactory) {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void dataSource_positive_batchedInsertsAreRewritten() throws Exception {
+    var hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+    assertThat(hikariDataSource.getDataSourceProperties()).containsEntry("reWriteBatchedInserts", "true");
+  }
+
+  @Test
+  void applicationDependencies_positive_persistAllAndDeleteByParentNames() {
+    var dependencies = IntStream.range(0, ENTITY_COUNT)
+      .mapToObj(i -> applicationDependency("parent-app-" + i, "^1.0.0"))
+      .toList();
+
+    applicationDependencyRepository.persistAll(dependencies);
+
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(ENTITY_COUNT / BATCH_SIZE + 1);
+    assertThat(countRows("application_dependency")).isEqualTo(ENTITY_COUNT);
+
+    var parentNames = dependencies.stream()
+      .map(ApplicationDependencyEntity::getParentName)
+      .limit(BATCH_SIZE)
+      .collect(toSet());
+
+    statistics.clear();
+    transactionTemplate.executeWithoutResult(status ->
+      applicationDependencyRepository.deleteAllByParentNameIn(TENANT_ID, APPLICATION_ID, parentNames));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(countRows("application_dependency")).isEqualTo(ENTITY_COUNT - BATCH_SIZE);
+    assertThat(applicationDependencyRepository.findByTenantIdAndParentNameIn(TENANT_ID, List.copyOf(parentNames)))
+      .isEmpty();
+  }
+
+  @Test
+  void entitlementModules_positive_persistAllAndDeleteByModuleIds() {
+    var modules = IntStream.range(0, ENTITY_COUNT)
+      .mapToObj(i -> entitlementModule("mod-test-" + i + "-1.0.0"))
+      .toList();
+
+    entitlementModuleRepository.persistAll(modules);
+
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(ENTITY_COUNT / BATCH_SIZE + 1);
+    assertThat(countRows("entitlement_module")).isEqualTo(ENTITY_COUNT);
+
+    var moduleIds = modules.stream()
+      .map(EntitlementModuleEntity::getModuleId)
+      .limit(BATCH_SIZE)
+      .collect(toSet());
+
+    statistics.clear();
+    transactionTemplate.executeWithoutResult(status ->
+      entitlementModuleRepository.deleteAllByModuleIdIn(TENANT_ID, APPLICATION_ID, moduleIds));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(countRows("entitlement_module")).isEqualTo(ENTITY_COUNT - BATCH_SIZE);
+  }
+
+  @Test
+  void flowStages_positive_upsertAll() {
+    var flowId = UUID.randomUUID();
+    var startedAt = ZonedDateTime.now();
+    var started = IntStream.range(0, ENTITY_COUNT)
+      .mapToObj(i -> flowStage(flowId, "stage-" + i, IN_PROGRESS, startedAt))
+      .toList();
+
+    flowStageRepository.upsertAll(started, BATCH_SIZE);
+
+    var finished = started.stream()
+      .map(stage -> flowStage(flowId, stage.getStageName(), FINISHED, startedAt.plusMinutes(1)))
+      .toList();
+    flowStageRepository.upsertAll(finished, BATCH_SIZE);
+
+    var statuses = jdbcTemplate.queryForList(
+      "select distinct status::text from flow_stage where flow_id = ?", String.class, flowId);
+    assertThat(statuses).containsExactly(FINISHED.name());
+    assertThat(countRows("flow_stage")).isEqualTo(ENTITY_COUNT);
+    assertThat(jdbcTemplate.queryForObject(
+      "select count(*) from flow_stage where flow_id = ? and started_at < finished_at", Integer.class, flowId))
+      .isEqualTo(ENTITY_COUNT);
+  }
+
+  private int countRows(String tableName) {
+    var count = jdbcTemplate.queryForObject("select count(*) from " + tableName, Integer.class);
+    return count != null ? count : 0;
+  }
+
+  private static ApplicationDependencyEntity applicationDependency(String parentName, String parentVersion) {
+    var entity = new ApplicationDependencyEntity();
+    entity.setTenantId(TENANT_ID);
+    entity.setApplicationId(APPLICATION_ID);
+    entity.setParentName(parentName);
+    entity.setParentVersion(parentVersion);
+    entity.setOptional(false);
+    return entity;
+  }
+
+  private static EntitlementModuleEntity entitlementModule(String moduleId) {
+    var entity = new EntitlementModuleEntity();
+    entity.setTenantId(TENANT_ID);
+    entity.setApplicationId(APPLICATION_ID);
+    entity.setModuleId(moduleId);
+    return entity;
+  }
+
+  private static FlowStageEntity flowStage(UUID flowId, String stageName, EntityExecutionStatus status,
+    ZonedDateTime time) {
+    var entity = new FlowStageEntity();
+    entity.setFlowId(flowId);
+    entity.setStageName(stageName);
+    entity.setStatus(status);
+    entity.setStartedAt(time);
+    entity.setFinishedAt(status == FINISHED ? time : null);
+    return entity;
+  }
+}
@@ -81,7 +81,8 @@ class ApplicationDependencyServiceTest {
     service.saveEntitlementDependencies(TENANT_ID, APPLICATION_ID, dependencies);
 
     var expectedEntity = applicationDependencyEntity(dependency);
-    verify(repository).saveAll(Set.of(expectedEntity));
+    verify(repository).deleteAllByParentNameIn(TENANT_ID, APPLICATION_ID, Set.of("test-app"));
+    verify(repository).persistAll(Set.of(expectedEntity));
   }
 
   @ParameterizedTest
@@ -95,13 +96,10 @@ class ApplicationDependencyServiceTest {
   void deleteEntitlementDependencies_positive() {
     var dependency = applicationDependency("test-app", "0.0.1");
     var dependencies = List.of(dependency);
-    var dependencyEntity = applicationDependencyEntity(dependency);
-
-    when(mapper.map(TENANT_ID, APPLICATION_ID, dependency)).thenReturn(dependencyEntity);
 
     service.deleteEntitlementDependencies(TENANT_ID, APPLICATION_ID, dependencies);
 
-    verify(repository).deleteAllInBatch(Set.of(dependencyEntity));
+    verify(repository).deleteAllByParentNameIn(TENANT_ID, APPLICATION_ID, Set.of("test-app"));
   }
 
   @ParameterizedTest
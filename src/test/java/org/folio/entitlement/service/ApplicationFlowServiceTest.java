@@ -17,6 +17,7 @@ import static org.folio.entitlement.support.TestConstants.FLOW_ID;
 import static org.folio.entitlement.support.TestConstants.TENANT_ID;
 import static org.folio.entitlement.support.TestValues.applicationDependency;
 import static org.folio.entitlement.support.TestValues.applicationDependencyEntity;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -292,13 +293,13 @@ class ApplicationFlowServiceTest {
       var applicationFlow = applicationFlow(QUEUED);
 
       when(mapper.mapWithStatusQueued(TENANT_ID, APPLICATION_ID, FLOW_ID, EntitlementType.ENTITLE)).thenReturn(entity);
-      when(repository.saveAll(entities)).thenReturn(entities);
       when(mapper.map(entity)).thenReturn(applicationFlow);
 
       var request = entitlementRequest(ENTITLE, APPLICATION_ID);
       var result = applicationFlowService.createQueuedApplicationFlows(FLOW_ID, request);
 
       assertThat(result).containsExactly(applicationFlow);
+      verify(repository).persistAll(entities);
     }
   }
 
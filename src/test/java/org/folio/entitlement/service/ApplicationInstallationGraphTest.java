@@ -43,6 +43,22 @@ class ApplicationInstallationGraphTest {
       .hasMessageContaining("No more independent applications can be found");
   }
 
+  @Test
+  void getInstallationSequence_negative_circDependenciesWithDependentApplication() {
+    List<ApplicationDescriptor> descriptors = List.of(
+      appDescriptor("app-foo-1.0.0", dependency("app-baz-1.0.0")),
+      appDescriptor("app-bar-1.0.0", dependency("app-foo-1.0.0")),
+      appDescriptor("app-baz-1.0.0", dependency("app-bar-1.0.0")),
+      appDescriptor("app-qux-1.0.0", dependency("app-foo-1.0.0")),
+      appDescriptor("app-corge-1.0.0"));
+
+    var graph = new ApplicationInstallationGraph(descriptors);
+    assertThatThrownBy(graph::getInstallationSequence)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("No more independent applications can be found")
+      .hasMessageEndingWith("circular dependencies: [[app-bar-1.0.0, app-baz-1.0.0, app-foo-1.0.0]]");
+  }
+
   private static Stream<Arguments> getInstallationSequenceDataProvider() {
     return Stream.of(
       arguments("No applications", emptyList(), emptyList()),
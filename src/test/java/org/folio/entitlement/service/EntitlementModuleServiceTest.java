@@ -102,7 +102,8 @@ class EntitlementModuleServiceTest {
 
     service.saveAll(TENANT_ID, APPLICATION_ID, List.of(MODULE_ID));
 
-    verify(repository).saveAll(List.of(entitlementModuleEntity()));
+    verify(repository).deleteAllByModuleIdIn(TENANT_ID, APPLICATION_ID, List.of(MODULE_ID));
+    verify(repository).persistAll(List.of(entitlementModuleEntity()));
   }
 
   @Test
@@ -116,10 +117,8 @@ class EntitlementModuleServiceTest {
 
   @Test
   void deleteAll_positive() {
-    when(mapper.mapKey(anyString(), any(UUID.class), anyString())).thenReturn(MODULE_KEY);
-
     service.deleteAll(TENANT_ID, APPLICATION_ID, List.of(MODULE_ID));
 
-    verify(repository).deleteAllById(List.of(MODULE_KEY));
+    verify(repository).deleteAllByModuleIdIn(TENANT_ID, APPLICATION_ID, List.of(MODULE_ID));
   }
 }
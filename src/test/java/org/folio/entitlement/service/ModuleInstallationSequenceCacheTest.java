@@ -0,0 +1,90 @@
+package org.folio.entitlement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entitlement.domain.dto.EntitlementType.ENTITLE;
+import static org.folio.entitlement.domain.dto.EntitlementType.REVOKE;
+import static org.folio.entitlement.service.ModuleInstallationSequenceCache.CACHE_NAME;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.folio.common.domain.model.InterfaceDescriptor;
+import org.folio.common.domain.model.InterfaceReference;
+import org.folio.common.domain.model.ModuleDescriptor;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ModuleInstallationSequenceCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private FlowEngineConfigurationProperties configuration;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    configuration = new FlowEngineConfigurationProperties();
+  }
+
+  @Test
+  void getInstallationSequence_positive_cachedForSameModules() {
+    var sequenceCache = new ModuleInstallationSequenceCache(configuration, meterRegistry);
+
+    var result = sequenceCache.getInstallationSequence(List.of(fooModule(), barModule()), ENTITLE);
+    var cachedResult = sequenceCache.getInstallationSequence(List.of(barModule(), fooModule()), ENTITLE);
+
+    assertThat(result).isEqualTo(List.of(List.of("mod-foo-1.0.0"), List.of("mod-bar-1.0.0")));
+    assertThat(cachedResult).isSameAs(result);
+    assertThat(cacheRequests("hit")).isEqualTo(1d);
+    assertThat(cacheRequests("miss")).isEqualTo(1d);
+  }
+
+  @Test
+  void getInstallationSequence_positive_differentEntitlementType() {
+    var sequenceCache = new ModuleInstallationSequenceCache(configuration, meterRegistry);
+
+    var entitleResult = sequenceCache.getInstallationSequence(List.of(fooModule(), barModule()), ENTITLE);
+    var revokeResult = sequenceCache.getInstallationSequence(List.of(fooModule(), barModule()), REVOKE);
+
+    assertThat(entitleResult).isEqualTo(List.of(List.of("mod-foo-1.0.0"), List.of("mod-bar-1.0.0")));
+    assertThat(revokeResult).isEqualTo(List.of(List.of("mod-bar-1.0.0"), List.of("mod-foo-1.0.0")));
+    assertThat(cacheRequests("miss")).isEqualTo(2d);
+  }
+
+  @Test
+  void getInstallationSequence_positive_nullModuleDescriptors() {
+    var sequenceCache = new ModuleInstallationSequenceCache(configuration, meterRegistry);
+    var result = sequenceCache.getInstallationSequence(null, ENTITLE);
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void getInstallationSequence_positive_cacheDisabled() {
+    configuration.getSequenceCache().setEnabled(false);
+    var sequenceCache = new ModuleInstallationSequenceCache(configuration, meterRegistry);
+
+    var result = sequenceCache.getInstallationSequence(List.of(fooModule(), barModule()), ENTITLE);
+    var secondResult = sequenceCache.getInstallationSequence(List.of(fooModule(), barModule()), ENTITLE);
+
+    assertThat(secondResult).isEqualTo(result).isNotSameAs(result);
+    assertThat(cacheRequests("miss")).isZero();
+  }
+
+  private double cacheRequests(String result) {
+    return meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", result).functionCounter().count();
+  }
+
+  private static ModuleDescriptor fooModule() {
+    return new ModuleDescriptor()
+      .id("mod-foo-1.0.0")
+      .provides(List.of(new InterfaceDescriptor("foo-api", "1.0")));
+  }
+
+  private static ModuleDescriptor barModule() {
+    return new ModuleDescriptor()
+      .id("mod-bar-1.0.0")
+      .provides(List.of(new InterfaceDescriptor("bar-api", "1.0")))
+      .requires(List.of(InterfaceReference.of("foo-api", "1.0")));
+  }
+}
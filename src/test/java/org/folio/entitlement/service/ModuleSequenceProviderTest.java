@@ -17,6 +17,7 @@ import static org.folio.entitlement.support.TestValues.appStageContext;
 import static org.folio.entitlement.support.TestValues.flowParameters;
 import static org.folio.entitlement.support.TestValues.module;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.regex.Pattern;
 import org.folio.common.domain.model.ApplicationDescriptor;
@@ -25,6 +26,7 @@ import org.folio.common.domain.model.InterfaceReference;
 import org.folio.common.domain.model.Module;
 import org.folio.common.domain.model.ModuleDescriptor;
 import org.folio.common.domain.model.RoutingEntry;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties;
 import org.folio.entitlement.domain.dto.EntitlementRequestType;
 import org.folio.entitlement.domain.model.EntitlementRequest;
 import org.folio.entitlement.domain.model.ModuleDescriptorHolder;
@@ -33,6 +35,7 @@ import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -46,6 +49,8 @@ class ModuleSequenceProviderTest {
   private static final String UI_BAR_ID = "folio_bar-2.0.0";
 
   @InjectMocks private ModuleSequenceProvider moduleSequenceProvider;
+  @Spy private final ModuleInstallationSequenceCache installationSequenceCache =
+    new ModuleInstallationSequenceCache(new FlowEngineConfigurationProperties(), new SimpleMeterRegistry());
 
   @Test
   void getSequence_positive_entitlementRequest() {
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import org.folio.entitlement.domain.model.ApplicationStageContext;
 import org.folio.entitlement.domain.model.EntitlementRequest;
 import org.folio.entitlement.domain.model.IdentifiableStageContext;
+import org.folio.entitlement.integration.kafka.KafkaEventFlusher;
 import org.folio.entitlement.service.stage.ApplicationDependencySaver;
 import org.folio.entitlement.service.stage.ApplicationDescriptorValidator;
 import org.folio.entitlement.service.stage.ApplicationDiscoveryLoader;
@@ -56,6 +57,7 @@ class EntitleApplicationFlowFactoryTest {
   @Mock private ApplicationFlowInitializer flowInitializer;
   @Mock private FailedApplicationFlowFinalizer failedFlowFinalizer;
   @Mock private SkippedApplicationFlowFinalizer skippedFlowFinalizer;
+  @Mock private KafkaEventFlusher kafkaEventFlusher;
   @Mock private EntitleApplicationFlowFinalizer finishedFlowFinalizer;
   @Mock private CancelledApplicationFlowFinalizer cancelledFlowFinalizer;
   @Mock private CancellationFailedApplicationFlowFinalizer cancellationFailedApplicationFlowFinalizer;
@@ -67,6 +69,7 @@ class EntitleApplicationFlowFactoryTest {
     flowFactory = new EntitleApplicationFlowFactory(applicationDescriptorValidator, applicationDependencySaver,
       applicationDiscoveryLoader, entitleRequestDependencyValidator, modulesFlowProvider, flowInitializer,
       finishedFlowFinalizer, finalizerCallbacks);
+    flowFactory.setKafkaEventFlusher(kafkaEventFlusher);
   }
 
   @AfterEach
@@ -76,6 +79,41 @@ class EntitleApplicationFlowFactoryTest {
 
   @Test
   void prepareFlow_positive() {
+    mockStageNames(applicationDescriptorValidator, applicationDependencySaver,
+      entitleRequestDependencyValidator, applicationDiscoveryLoader,
+      kafkaEventFlusher, finishedFlowFinalizer, flowInitializer, failedFlowFinalizer, cancelledFlowFinalizer,
+      cancellationFailedApplicationFlowFinalizer, skippedFlowFinalizer);
+
+    var request = EntitlementRequest.builder().type(ENTITLE).tenantId(TENANT_ID).build();
+    var flowParameters = TestValues.flowParameters(request, TestValues.appDescriptor());
+
+    var actual = flowFactory.createFlow(FLOW_STAGE_ID, IGNORE_ON_ERROR, flowParameters);
+    flowEngine.execute(actual);
+
+    var context = appStageContext(actual.getId(), flowParameters, emptyMap());
+
+    var inOrder = Mockito.inOrder(flowInitializer, applicationDependencySaver, entitleRequestDependencyValidator,
+      applicationDiscoveryLoader, kafkaEventFlusher, finishedFlowFinalizer, applicationDescriptorValidator,
+      modulesFlowProvider);
+
+    inOrder.verify(modulesFlowProvider).getName();
+    verifyStageExecution(inOrder, flowInitializer, context);
+    verifyStageExecution(inOrder, applicationDescriptorValidator, context);
+    verifyStageExecution(inOrder, applicationDependencySaver, context);
+    verifyStageExecution(inOrder, entitleRequestDependencyValidator, context);
+    verifyStageExecution(inOrder, applicationDiscoveryLoader, context);
+    inOrder.verify(modulesFlowProvider).createFlow(context);
+    verifyStageExecution(inOrder, kafkaEventFlusher, context);
+    verifyStageExecution(inOrder, finishedFlowFinalizer, context);
+
+    verify(failedFlowFinalizer, never()).execute(any(ApplicationStageContext.class));
+    verify(skippedFlowFinalizer, never()).execute(any(ApplicationStageContext.class));
+    verify(cancelledFlowFinalizer, never()).execute(any(ApplicationStageContext.class));
+  }
+
+  @Test
+  void prepareFlow_positive_kafkaEventFlusherIsNotConfigured() {
+    flowFactory.setKafkaEventFlusher(null);
     mockStageNames(applicationDescriptorValidator, applicationDependencySaver,
       entitleRequestDependencyValidator, applicationDiscoveryLoader,
       finishedFlowFinalizer, flowInitializer, failedFlowFinalizer, cancelledFlowFinalizer,
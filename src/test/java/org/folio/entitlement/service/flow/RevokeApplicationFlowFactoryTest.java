@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import org.folio.entitlement.domain.model.ApplicationStageContext;
 import org.folio.entitlement.domain.model.EntitlementRequest;
 import org.folio.entitlement.domain.model.IdentifiableStageContext;
+import org.folio.entitlement.integration.kafka.KafkaEventFlusher;
 import org.folio.entitlement.service.stage.ApplicationDependencyCleaner;
 import org.folio.entitlement.service.stage.ApplicationDiscoveryLoader;
 import org.folio.entitlement.service.stage.ApplicationFlowInitializer;
@@ -51,6 +52,7 @@ class RevokeApplicationFlowFactoryTest {
   @Mock private RevokeRequestDependencyValidator revokeRequestDependencyValidator;
 
   @Mock private ApplicationFlowInitializer flowInitializer;
+  @Mock private KafkaEventFlusher kafkaEventFlusher;
   @Mock private RevokeApplicationFlowFinalizer finishedFlowFinalizer;
   @Mock private FailedApplicationFlowFinalizer failedFlowFinalizer;
   @Mock private SkippedApplicationFlowFinalizer skippedFlowFinalizer;
@@ -66,6 +68,7 @@ class RevokeApplicationFlowFactoryTest {
     flowFactory = new RevokeApplicationFlowFactory(applicationDiscoveryLoader, applicationDependencyCleaner,
       revokeRequestDependencyValidator, flowInitializer, finishedFlowFinalizer, finalizerCallbacks,
       modulesFlowProvider);
+    flowFactory.setKafkaEventFlusher(kafkaEventFlusher);
   }
 
   @AfterEach
@@ -77,7 +80,7 @@ class RevokeApplicationFlowFactoryTest {
   void prepareFlow_positive() {
     mockStageNames(flowInitializer, applicationDependencyCleaner, revokeRequestDependencyValidator,
       applicationDiscoveryLoader, finishedFlowFinalizer, failedFlowFinalizer, skippedFlowFinalizer,
-      cancelledFlowFinalizer, cancellationFailedFlowFinalizer);
+      cancelledFlowFinalizer, cancellationFailedFlowFinalizer, kafkaEventFlusher);
 
     var request = EntitlementRequest.builder().type(REVOKE).tenantId(TENANT_ID).build();
     var flowParameters = TestValues.flowParameters(request, TestValues.appDescriptor());
@@ -88,7 +91,7 @@ class RevokeApplicationFlowFactoryTest {
     var context = appStageContext(actual.getId(), flowParameters, emptyMap());
 
     var inOrder = Mockito.inOrder(flowInitializer, applicationDependencyCleaner, modulesFlowProvider,
-      revokeRequestDependencyValidator, applicationDiscoveryLoader, finishedFlowFinalizer);
+      revokeRequestDependencyValidator, applicationDiscoveryLoader, kafkaEventFlusher, finishedFlowFinalizer);
 
     inOrder.verify(modulesFlowProvider).getName();
     verifyStageExecution(inOrder, flowInitializer, context);
@@ -97,6 +100,7 @@ class RevokeApplicationFlowFactoryTest {
     inOrder.verify(modulesFlowProvider).createFlow(context);
 
     verifyStageExecution(inOrder, applicationDependencyCleaner, context);
+    verifyStageExecution(inOrder, kafkaEventFlusher, context);
     verifyStageExecution(inOrder, finishedFlowFinalizer, context);
 
     verify(skippedFlowFinalizer, never()).execute(any(ApplicationStageContext.class));
@@ -13,6 +13,7 @@ import static org.folio.flow.model.FlowExecutionStrategy.IGNORE_ON_ERROR;
 
 import org.folio.entitlement.domain.model.EntitlementRequest;
 import org.folio.entitlement.domain.model.IdentifiableStageContext;
+import org.folio.entitlement.integration.kafka.KafkaEventFlusher;
 import org.folio.entitlement.service.stage.ApplicationDependencyUpdater;
 import org.folio.entitlement.service.stage.ApplicationDiscoveryLoader;
 import org.folio.entitlement.service.stage.ApplicationFlowInitializer;
@@ -48,6 +49,7 @@ class UpgradeApplicationFlowFactoryTest {
   @Mock private ModulesFlowProvider modulesFlowProvider;
   @Mock private ApplicationFlowInitializer flowInitializer;
   @Mock private FailedApplicationFlowFinalizer failedFlowFinalizer;
+  @Mock private KafkaEventFlusher kafkaEventFlusher;
   @Mock private UpgradeApplicationFlowFinalizer finishedFlowFinalizer;
   @Mock private SkippedApplicationFlowFinalizer skippedFlowFinalizer;
   @Mock private CancelledApplicationFlowFinalizer cancelledFlowFinalizer;
@@ -59,13 +61,14 @@ class UpgradeApplicationFlowFactoryTest {
       cancelledFlowFinalizer, cancellationFailedFlowFinalizer);
     flowFactory = new UpgradeApplicationFlowFactory(applicationDependencyUpdater, upgradeRequestDependencyValidator,
       modulesFlowProvider, applicationDiscoveryLoader, flowInitializer, finishedFlowFinalizer, finalizerCallbacks);
+    flowFactory.setKafkaEventFlusher(kafkaEventFlusher);
   }
 
   @Test
   void prepareFlow() {
     mockStageNames(applicationDependencyUpdater, upgradeRequestDependencyValidator, flowInitializer,
       failedFlowFinalizer, finishedFlowFinalizer, skippedFlowFinalizer, applicationDiscoveryLoader,
-      cancelledFlowFinalizer, cancellationFailedFlowFinalizer);
+      cancelledFlowFinalizer, cancellationFailedFlowFinalizer, kafkaEventFlusher);
 
     var request = EntitlementRequest.builder().type(UPGRADE).tenantId(TENANT_ID).ignoreErrors(true).build();
     var entitledApplicationDescriptor = appDescriptor("app-foo-1.0.0");
@@ -78,7 +81,7 @@ class UpgradeApplicationFlowFactoryTest {
 
     var inOrder = Mockito.inOrder(applicationDependencyUpdater, upgradeRequestDependencyValidator,
       flowInitializer, failedFlowFinalizer, finishedFlowFinalizer, skippedFlowFinalizer, modulesFlowProvider,
-      applicationDiscoveryLoader);
+      applicationDiscoveryLoader, kafkaEventFlusher);
 
     inOrder.verify(modulesFlowProvider).getName();
     verifyStageExecution(inOrder, flowInitializer, context);
@@ -86,6 +89,7 @@ class UpgradeApplicationFlowFactoryTest {
     verifyStageExecution(inOrder, applicationDiscoveryLoader, context);
     inOrder.verify(modulesFlowProvider).createFlow(context);
     verifyStageExecution(inOrder, applicationDependencyUpdater, context);
+    verifyStageExecution(inOrder, kafkaEventFlusher, context);
     verifyStageExecution(inOrder, finishedFlowFinalizer, context);
   }
 
@@ -18,6 +18,7 @@ import java.util.EnumSet;
 import java.util.Map;
 import org.folio.entitlement.domain.entity.type.EntityExecutionStatus;
 import org.folio.entitlement.domain.model.EntitlementRequest;
+import org.folio.entitlement.integration.kafka.KafkaEventPublisher;
 import org.folio.entitlement.repository.ApplicationFlowRepository;
 import org.folio.entitlement.support.TestUtils;
 import org.folio.test.types.UnitTest;
@@ -35,6 +36,7 @@ class CancelledApplicationFlowFinalizerTest {
   @InjectMocks private CancelledApplicationFlowFinalizer entitlementFlowFinalizer;
 
   @Mock private ApplicationFlowRepository applicationFlowRepository;
+  @Mock private KafkaEventPublisher kafkaEventPublisher;
 
   @AfterEach
   void tearDown() {
@@ -50,6 +52,7 @@ class CancelledApplicationFlowFinalizerTest {
     var stageContext = appStageContext(FLOW_STAGE_ID, flowParameters(), Map.of());
     entitlementFlowFinalizer.execute(stageContext);
 
+    verify(kafkaEventPublisher).discard(APPLICATION_FLOW_ID);
     verify(applicationFlowRepository).updateStatusIfCurrentIn(
       eq(APPLICATION_FLOW_ID), eq(CANCELLED), eq(EnumSet.allOf(EntityExecutionStatus.class)),
       any(ZonedDateTime.class));
@@ -10,18 +10,25 @@ import static org.folio.entitlement.domain.model.ApplicationStageContext.PARAM_A
 import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
 import static org.folio.entitlement.support.TestConstants.FLOW_ID;
 import static org.folio.entitlement.support.TestValues.appStageContext;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
 import org.folio.common.domain.model.error.Parameter;
 import org.folio.entitlement.domain.entity.FlowStageEntity;
-import org.folio.entitlement.domain.entity.key.FlowStageKey;
 import org.folio.entitlement.domain.model.ApplicationStageContext;
 import org.folio.entitlement.integration.IntegrationException;
+import org.folio.entitlement.integration.kafka.EventOutbox;
 import org.folio.entitlement.repository.FlowStageRepository;
 import org.folio.test.types.UnitTest;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -29,6 +36,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -39,32 +48,36 @@ class DatabaseLoggingStageTest {
   @InjectMocks private TestStage testStage;
   @Mock private FlowStageRepository stageRepository;
   @Mock private ThreadLocalModuleStageContext threadLocalModuleStageContext;
+  @Mock private PlatformTransactionManager transactionManager;
   @Captor private ArgumentCaptor<FlowStageEntity> entitlementStageCaptor;
 
+  @BeforeEach
+  void setUp() {
+    testStage.setTransactionTemplate(new TransactionTemplate(transactionManager));
+  }
+
   @Test
   void onStart_positive() {
-    when(stageRepository.save(entitlementStageCaptor.capture())).thenReturn(entitlementStageEntity());
     var stageContext = stageContext();
 
     testStage.onStart(stageContext);
 
+    verify(stageRepository).upsert(entitlementStageCaptor.capture());
     var capturedEntity = entitlementStageCaptor.getValue();
     assertThat(capturedEntity.getStatus()).isEqualTo(IN_PROGRESS);
     assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
     assertThat(capturedEntity.getStageName()).isEqualTo(STAGE_NAME);
     assertThat(capturedEntity.getErrorMessage()).isNull();
+    assertThat(capturedEntity.getStartedAt()).isNotNull().isEqualTo(capturedEntity.getFinishedAt());
   }
 
   @Test
   void onSuccess_positive() {
-    var expectedKey = FlowStageKey.of(APPLICATION_FLOW_ID, STAGE_NAME);
-    var entity = entitlementStageEntity();
-    when(stageRepository.getReferenceById(expectedKey)).thenReturn(entity);
-    when(stageRepository.save(entitlementStageCaptor.capture())).thenReturn(entity);
     var stageContext = stageContext();
 
     testStage.onSuccess(stageContext);
 
+    verify(stageRepository).upsert(entitlementStageCaptor.capture());
     var capturedEntity = entitlementStageCaptor.getValue();
     assertThat(capturedEntity.getStatus()).isEqualTo(FINISHED);
     assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
@@ -72,17 +85,24 @@ class DatabaseLoggingStageTest {
     assertThat(capturedEntity.getErrorMessage()).isNull();
   }
 
+  @Test
+  void onSuccess_positive_outboxEventsStored() {
+    var eventOutbox = mock(EventOutbox.class);
+    testStage.setEventOutbox(eventOutbox);
+
+    testStage.onSuccess(stageContext());
+
+    verify(eventOutbox).store();
+  }
+
   @Test
   void onError_positive() {
-    var expectedKey = FlowStageKey.of(APPLICATION_FLOW_ID, STAGE_NAME);
-    var entity = entitlementStageEntity();
-    when(stageRepository.getReferenceById(expectedKey)).thenReturn(entity);
-    when(stageRepository.save(entitlementStageCaptor.capture())).thenReturn(entity);
     var stageContext = stageContext();
     var errorMessage = "Failed to perform stage";
 
     testStage.onError(stageContext, new RuntimeException(errorMessage));
 
+    verify(stageRepository).upsert(entitlementStageCaptor.capture());
     var capturedEntity = entitlementStageCaptor.getValue();
     assertThat(capturedEntity.getStatus()).isEqualTo(FAILED);
     assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
@@ -92,15 +112,12 @@ class DatabaseLoggingStageTest {
 
   @Test
   void onError_positive_integrationException() {
-    var expectedKey = FlowStageKey.of(APPLICATION_FLOW_ID, STAGE_NAME);
-    var entity = entitlementStageEntity();
-    when(stageRepository.getReferenceById(expectedKey)).thenReturn(entity);
-    when(stageRepository.save(entitlementStageCaptor.capture())).thenReturn(entity);
     var stageContext = stageContext();
     var errorMessage = "Failed to perform stage";
 
     testStage.onError(stageContext, new IntegrationException(errorMessage, new RuntimeException("runtime error")));
 
+    verify(stageRepository).upsert(entitlementStageCaptor.capture());
     var capturedEntity = entitlementStageCaptor.getValue();
     assertThat(capturedEntity.getStatus()).isEqualTo(FAILED);
     assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
@@ -109,16 +126,13 @@ class DatabaseLoggingStageTest {
 
   @Test
   void onError_positive_integrationExceptionWithParameters() {
-    var expectedKey = FlowStageKey.of(APPLICATION_FLOW_ID, STAGE_NAME);
-    var entity = entitlementStageEntity();
-    when(stageRepository.getReferenceById(expectedKey)).thenReturn(entity);
-    when(stageRepository.save(entitlementStageCaptor.capture())).thenReturn(entity);
     var stageContext = stageContext();
     var errorMessage = "Failed to perform stage";
     var errorParameter = new Parameter().key("routeId").value("Failed to create route");
 
     testStage.onError(stageContext, new IntegrationException(errorMessage, List.of(errorParameter)));
 
+    verify(stageRepository).upsert(entitlementStageCaptor.capture());
     var capturedEntity = entitlementStageCaptor.getValue();
     assertThat(capturedEntity.getStatus()).isEqualTo(FAILED);
     assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
@@ -127,16 +141,23 @@ class DatabaseLoggingStageTest {
       "Failed to perform stage, parameters: [{key: routeId, value: Failed to create route}]");
   }
 
+  @Test
+  void onError_positive_outboxEventsDiscarded() {
+    var eventOutbox = mock(EventOutbox.class);
+    testStage.setEventOutbox(eventOutbox);
+
+    testStage.onError(stageContext(), new RuntimeException("Failed to perform stage"));
+
+    verify(eventOutbox).discard();
+  }
+
   @Test
   void onCancel_positive() {
-    var expectedKey = FlowStageKey.of(APPLICATION_FLOW_ID, STAGE_NAME);
-    var entity = entitlementStageEntity();
-    when(stageRepository.getReferenceById(expectedKey)).thenReturn(entity);
-    when(stageRepository.save(entitlementStageCaptor.capture())).thenReturn(entity);
     var stageContext = stageContext();
 
     testStage.onCancel(stageContext);
 
+    verify(stageRepository).upsert(entitlementStageCaptor.capture());
     var capturedEntity = entitlementStageCaptor.getValue();
     assertThat(capturedEntity.getStatus()).isEqualTo(CANCELLED);
     assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
@@ -144,13 +165,97 @@ class DatabaseLoggingStageTest {
     assertThat(capturedEntity.getErrorMessage()).isNull();
   }
 
-  @NotNull
-  private static FlowStageEntity entitlementStageEntity() {
-    var entity = new FlowStageEntity();
-    entity.setFlowId(APPLICATION_FLOW_ID);
-    entity.setStageName(STAGE_NAME);
-    entity.setStatus(IN_PROGRESS);
-    return entity;
+  @Test
+  void onCancel_positive_outboxEventsStored() {
+    var eventOutbox = mock(EventOutbox.class);
+    testStage.setEventOutbox(eventOutbox);
+
+    testStage.onCancel(stageContext());
+
+    verify(eventOutbox).store();
+  }
+
+  @Test
+  void onStart_positive_stageStatusWriter() {
+    var flowStageStatusWriter = mock(FlowStageStatusWriter.class);
+    testStage.setFlowStageStatusWriter(flowStageStatusWriter);
+
+    testStage.onStart(stageContext());
+
+    verify(flowStageStatusWriter).write(entitlementStageCaptor.capture());
+    var capturedEntity = entitlementStageCaptor.getValue();
+    assertThat(capturedEntity.getStatus()).isEqualTo(IN_PROGRESS);
+    assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
+    assertThat(capturedEntity.getStageName()).isEqualTo(STAGE_NAME);
+    assertThat(capturedEntity.getStartedAt()).isNotNull();
+    verifyNoMoreInteractions(flowStageStatusWriter);
+    verifyNoInteractions(stageRepository, transactionManager);
+  }
+
+  @Test
+  void onSuccess_positive_stageStatusWriter() {
+    var flowStageStatusWriter = mock(FlowStageStatusWriter.class);
+    testStage.setFlowStageStatusWriter(flowStageStatusWriter);
+
+    testStage.onSuccess(stageContext());
+
+    verify(flowStageStatusWriter).write(entitlementStageCaptor.capture());
+    var capturedEntity = entitlementStageCaptor.getValue();
+    assertThat(capturedEntity.getStatus()).isEqualTo(FINISHED);
+    assertThat(capturedEntity.getFlowId()).isEqualTo(APPLICATION_FLOW_ID);
+    assertThat(capturedEntity.getStageName()).isEqualTo(STAGE_NAME);
+    assertThat(capturedEntity.getFinishedAt()).isNotNull();
+    verifyNoMoreInteractions(flowStageStatusWriter);
+    verifyNoInteractions(stageRepository, transactionManager);
+  }
+
+  @Test
+  void onError_positive_stageStatusWriter() {
+    var flowStageStatusWriter = mock(FlowStageStatusWriter.class);
+    testStage.setFlowStageStatusWriter(flowStageStatusWriter);
+    var errorMessage = "Failed to perform stage";
+
+    testStage.onError(stageContext(), new RuntimeException(errorMessage));
+
+    verify(flowStageStatusWriter).write(entitlementStageCaptor.capture());
+    var capturedEntity = entitlementStageCaptor.getValue();
+    assertThat(capturedEntity.getStatus()).isEqualTo(FAILED);
+    assertThat(capturedEntity.getErrorMessage()).isEqualTo(errorMessage);
+    verify(flowStageStatusWriter).flush(APPLICATION_FLOW_ID);
+    verifyNoInteractions(stageRepository, transactionManager);
+  }
+
+  @Test
+  void onCancel_positive_stageStatusWriter() {
+    var flowStageStatusWriter = mock(FlowStageStatusWriter.class);
+    testStage.setFlowStageStatusWriter(flowStageStatusWriter);
+
+    testStage.onCancel(stageContext());
+
+    verify(flowStageStatusWriter).write(entitlementStageCaptor.capture());
+    assertThat(entitlementStageCaptor.getValue().getStatus()).isEqualTo(CANCELLED);
+    verify(flowStageStatusWriter).flush(APPLICATION_FLOW_ID);
+    verifyNoInteractions(stageRepository, transactionManager);
+  }
+
+  @Test
+  void onSuccess_positive_stageStatusWriterAndOutboxEvents() {
+    var flowStageStatusWriter = mock(FlowStageStatusWriter.class);
+    var eventOutbox = mock(EventOutbox.class);
+    testStage.setFlowStageStatusWriter(flowStageStatusWriter);
+    testStage.setEventOutbox(eventOutbox);
+    when(eventOutbox.hasPendingEvents()).thenReturn(true);
+
+    testStage.onSuccess(stageContext());
+
+    var inOrder = inOrder(flowStageStatusWriter, stageRepository, eventOutbox, transactionManager);
+    inOrder.verify(flowStageStatusWriter).flush(APPLICATION_FLOW_ID);
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(stageRepository).upsert(entitlementStageCaptor.capture());
+    inOrder.verify(eventOutbox).store();
+    inOrder.verify(transactionManager).commit(any());
+    assertThat(entitlementStageCaptor.getValue().getStatus()).isEqualTo(FINISHED);
+    verifyNoMoreInteractions(flowStageStatusWriter);
   }
 
   @NotNull
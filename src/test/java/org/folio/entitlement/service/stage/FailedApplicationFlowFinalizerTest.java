@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import org.folio.entitlement.domain.model.EntitlementRequest;
+import org.folio.entitlement.integration.kafka.KafkaEventPublisher;
 import org.folio.entitlement.repository.ApplicationFlowRepository;
 import org.folio.entitlement.support.TestUtils;
 import org.folio.entitlement.support.TestValues;
@@ -32,6 +33,7 @@ class FailedApplicationFlowFinalizerTest {
   @InjectMocks private FailedApplicationFlowFinalizer failedApplicationFlowFinalizer;
 
   @Mock private ApplicationFlowRepository applicationFlowRepository;
+  @Mock private KafkaEventPublisher kafkaEventPublisher;
 
   @AfterEach
   void tearDown() {
@@ -49,6 +51,7 @@ class FailedApplicationFlowFinalizerTest {
 
     failedApplicationFlowFinalizer.execute(stageContext);
 
+    verify(kafkaEventPublisher).discard(APPLICATION_FLOW_ID);
     verify(applicationFlowRepository).updateStatusIfCurrentIn(
       eq(APPLICATION_FLOW_ID), eq(FAILED), eq(NON_TERMINAL_STATUSES), any(ZonedDateTime.class));
   }
@@ -64,6 +67,7 @@ class FailedApplicationFlowFinalizerTest {
 
     failedApplicationFlowFinalizer.execute(stageContext);
 
+    verify(kafkaEventPublisher).discard(APPLICATION_FLOW_ID);
     verify(applicationFlowRepository).updateStatusIfCurrentIn(
       eq(APPLICATION_FLOW_ID), eq(FAILED), eq(NON_TERMINAL_STATUSES), any(ZonedDateTime.class));
   }
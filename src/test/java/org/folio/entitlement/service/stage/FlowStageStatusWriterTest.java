@@ -0,0 +1,130 @@
+package org.folio.entitlement.service.stage;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.FAILED;
+import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.FINISHED;
+import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.IN_PROGRESS;
+import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import org.folio.entitlement.configuration.FlowEngineConfigurationProperties;
+import org.folio.entitlement.domain.entity.FlowStageEntity;
+import org.folio.entitlement.domain.entity.type.EntityExecutionStatus;
+import org.folio.entitlement.repository.FlowStageRepository;
+import org.folio.entitlement.support.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class FlowStageStatusWriterTest {
+
+  private static final int BATCH_SIZE = 3;
+  private static final UUID OTHER_APPLICATION_FLOW_ID = UUID.randomUUID();
+
+  private FlowStageStatusWriter flowStageStatusWriter;
+  @Mock private FlowStageRepository flowStageRepository;
+
+  @BeforeEach
+  void setUp() {
+    var configuration = new FlowEngineConfigurationProperties();
+    configuration.getStageStatusWriter().setBatchSize(BATCH_SIZE);
+    flowStageStatusWriter = new FlowStageStatusWriter(flowStageRepository, configuration);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void write_positive_queued() {
+    var entity = flowStageEntity(APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+
+    flowStageStatusWriter.write(entity);
+    flowStageStatusWriter.flush();
+
+    verify(flowStageRepository).upsertAll(List.of(entity), BATCH_SIZE);
+  }
+
+  @Test
+  void write_positive_batchSizeReached() {
+    var started = flowStageEntity(APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+    var finished = flowStageEntity(APPLICATION_FLOW_ID, "stage1", FINISHED);
+    var otherStarted = flowStageEntity(OTHER_APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+
+    flowStageStatusWriter.write(started);
+    flowStageStatusWriter.write(finished);
+    flowStageStatusWriter.write(otherStarted);
+
+    verify(flowStageRepository).upsertAll(List.of(started, finished, otherStarted), BATCH_SIZE);
+  }
+
+  @Test
+  void flush_positive_emptyQueue() {
+    flowStageStatusWriter.flush();
+  }
+
+  @Test
+  void flush_negative_failureIsLoggedAndStatusesAreRequeued() {
+    var entity = flowStageEntity(APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+    doThrow(new DataAccessResourceFailureException("Connection refused"))
+      .doNothing()
+      .when(flowStageRepository).upsertAll(List.of(entity), BATCH_SIZE);
+
+    flowStageStatusWriter.write(entity);
+    flowStageStatusWriter.flush();
+    flowStageStatusWriter.flush();
+
+    verify(flowStageRepository, times(2)).upsertAll(List.of(entity), BATCH_SIZE);
+  }
+
+  @Test
+  void flushFlow_positive_onlyStatusesOfFlowAreWritten() {
+    var started = flowStageEntity(APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+    var otherStarted = flowStageEntity(OTHER_APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+
+    flowStageStatusWriter.write(started);
+    flowStageStatusWriter.write(otherStarted);
+    flowStageStatusWriter.flush(APPLICATION_FLOW_ID);
+    flowStageStatusWriter.flush();
+
+    verify(flowStageRepository).upsertAll(List.of(started), BATCH_SIZE);
+    verify(flowStageRepository).upsertAll(List.of(otherStarted), BATCH_SIZE);
+  }
+
+  @Test
+  void flushFlow_negative_failureIsPropagated() {
+    var started = flowStageEntity(APPLICATION_FLOW_ID, "stage1", IN_PROGRESS);
+    var failed = flowStageEntity(APPLICATION_FLOW_ID, "stage1", FAILED);
+    doThrow(new DataAccessResourceFailureException("Connection refused"))
+      .when(flowStageRepository).upsertAll(List.of(started, failed), BATCH_SIZE);
+
+    flowStageStatusWriter.write(started);
+    flowStageStatusWriter.write(failed);
+
+    assertThatThrownBy(() -> flowStageStatusWriter.flush(APPLICATION_FLOW_ID))
+      .isInstanceOf(DataAccessResourceFailureException.class)
+      .hasMessage("Connection refused");
+
+    verify(flowStageRepository).upsertAll(List.of(started, failed), BATCH_SIZE);
+  }
+
+  private static FlowStageEntity flowStageEntity(UUID flowId, String stageName, EntityExecutionStatus status) {
+    var entity = new FlowStageEntity();
+    entity.setFlowId(flowId);
+    entity.setStageName(stageName);
+    entity.setStatus(status);
+    return entity;
+  }
+}
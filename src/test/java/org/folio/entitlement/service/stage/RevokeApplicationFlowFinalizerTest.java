@@ -4,10 +4,12 @@ import static java.util.Collections.emptyMap;
 import static org.folio.entitlement.domain.dto.EntitlementRequestType.REVOKE;
 import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.FINISHED;
 import static org.folio.entitlement.domain.entity.type.EntityExecutionStatus.NON_TERMINAL_STATUSES;
+import static org.folio.entitlement.domain.model.CommonStageContext.PARAM_TENANT_NAME;
 import static org.folio.entitlement.support.TestConstants.APPLICATION_FLOW_ID;
 import static org.folio.entitlement.support.TestConstants.APPLICATION_ID;
 import static org.folio.entitlement.support.TestConstants.FLOW_STAGE_ID;
 import static org.folio.entitlement.support.TestConstants.TENANT_ID;
+import static org.folio.entitlement.support.TestConstants.TENANT_NAME;
 import static org.folio.entitlement.support.TestValues.appStageContext;
 import static org.folio.entitlement.support.TestValues.entitlement;
 import static org.folio.entitlement.support.TestValues.flowParameters;
@@ -18,7 +20,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
+import java.util.Map;
 import org.folio.entitlement.domain.model.EntitlementRequest;
+import org.folio.entitlement.integration.keycloak.KeycloakService;
 import org.folio.entitlement.repository.ApplicationFlowRepository;
 import org.folio.entitlement.service.EntitlementCrudService;
 import org.folio.entitlement.support.TestUtils;
@@ -39,6 +43,7 @@ class RevokeApplicationFlowFinalizerTest {
 
   @Mock private EntitlementCrudService entitlementCrudService;
   @Mock private ApplicationFlowRepository applicationFlowRepository;
+  @Mock private KeycloakService keycloakService;
 
   @AfterEach
   void tearDown() {
@@ -59,6 +64,22 @@ class RevokeApplicationFlowFinalizerTest {
     verify(entitlementCrudService).delete(entitlement(TENANT_ID, APPLICATION_ID));
   }
 
+  @Test
+  void execute_positive_keycloakAuthorizationClientEvicted() {
+    when(applicationFlowRepository.updateStatusIfCurrentIn(
+      eq(APPLICATION_FLOW_ID), eq(FINISHED), eq(NON_TERMINAL_STATUSES), any(ZonedDateTime.class))).thenReturn(1);
+
+    var entitlementRequest = EntitlementRequest.builder().type(REVOKE).tenantId(TENANT_ID).build();
+    var flowParameters = flowParameters(entitlementRequest, TestValues.appDescriptor());
+    var stageContext = appStageContext(FLOW_STAGE_ID, flowParameters, Map.of(PARAM_TENANT_NAME, TENANT_NAME));
+    revokeApplicationFlowFinalizer.setKeycloakService(keycloakService);
+
+    revokeApplicationFlowFinalizer.execute(stageContext);
+
+    verify(entitlementCrudService).delete(entitlement(TENANT_ID, APPLICATION_ID));
+    verify(keycloakService).evictAuthorizationClient(TENANT_NAME);
+  }
+
   @Test
   void execute_positive_flowAlreadyTerminal_entitlementNotDeleted() {
     when(applicationFlowRepository.updateStatusIfCurrentIn(
@@ -49,6 +49,25 @@ class JsonConverterTest {
       .hasMessageContaining("Failed to serialize value");
   }
 
+  @Test
+  void fromJson_positive() {
+    var actual = jsonConverter.fromJson(JSON_BODY, TestClass.class);
+    assertThat(actual).isEqualTo(TestClass.of(FIELD_VALUE));
+  }
+
+  @Test
+  void fromJson_positive_nullValue() {
+    var actual = jsonConverter.fromJson(null, TestClass.class);
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void fromJson_negative_invalidJson() {
+    assertThatThrownBy(() -> jsonConverter.fromJson("{invalid", TestClass.class))
+      .isInstanceOf(SerializationException.class)
+      .hasMessageContaining("Failed to deserialize value");
+  }
+
   @Data
   @NoArgsConstructor
   @AllArgsConstructor(staticName = "of")
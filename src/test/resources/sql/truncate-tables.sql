@@ -4,3 +4,4 @@ truncate table flow_stage cascade;
 truncate table application_flow cascade;
 truncate table flow cascade;
 truncate table entitlement_module cascade;
+truncate table event_outbox;